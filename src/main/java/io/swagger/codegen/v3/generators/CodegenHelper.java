@@ -1,14 +1,40 @@
 package io.swagger.codegen.v3.generators;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Default tables of {@link DefaultCodegenConfig}. They are built once, when the class is initialized, and every
+ * generator instance gets its own mutable copy.
+ */
 public class CodegenHelper {
 
+    private static final Set<String> DEFAULT_INCLUDES = Collections.unmodifiableSet(createDefaultIncludes());
+    private static final Map<String, String> TYPE_MAPPINGS = Collections.unmodifiableMap(createTypeMappings());
+    private static final Map<String, String> IMPORT_MAPPINGS = Collections.unmodifiableMap(createImportMappings());
+    private static final Map<String, String> SPECIAL_CHARACTER_MAPPING = Collections.unmodifiableMap(createSpecialCharacterMapping());
+
     static Set<String> getDefaultIncludes() {
+        return new HashSet<>(DEFAULT_INCLUDES);
+    }
+
+    static Map<String, String> getTypeMappings() {
+        return new HashMap<>(TYPE_MAPPINGS);
+    }
+
+    static Map<String, String> getImportMappings() {
+        return new HashMap<>(IMPORT_MAPPINGS);
+    }
+
+    static void initalizeSpecialCharacterMapping(Map<String, String> specialCharReplacements) {
+        specialCharReplacements.putAll(SPECIAL_CHARACTER_MAPPING);
+    }
+
+    private static Set<String> createDefaultIncludes() {
         return new HashSet<>(
                 Arrays.asList("double",
                         "int",
@@ -27,7 +53,7 @@ public class CodegenHelper {
         );
     }
 
-    static Map<String, String> getTypeMappings() {
+    private static Map<String, String> createTypeMappings() {
         final Map<String, String> typeMapping = new HashMap<>();
         typeMapping.put("array", "List");
         typeMapping.put("map", "Map");
@@ -52,7 +78,7 @@ public class CodegenHelper {
         return typeMapping;
     }
 
-    static Map<String, String> getImportMappings() {
+    private static Map<String, String> createImportMappings() {
         final Map<String, String> importMapping = new HashMap<>();
         importMapping.put("BigDecimal", "java.math.BigDecimal");
         importMapping.put("UUID", "java.util.UUID");
@@ -72,7 +98,8 @@ public class CodegenHelper {
         return importMapping;
     }
 
-    static void initalizeSpecialCharacterMapping(Map<String, String> specialCharReplacements) {
+    private static Map<String, String> createSpecialCharacterMapping() {
+        final Map<String, String> specialCharReplacements = new HashMap<>();
         specialCharReplacements.put("$", "Dollar");
         specialCharReplacements.put("^", "Caret");
         specialCharReplacements.put("|", "Pipe");
@@ -107,6 +134,7 @@ public class CodegenHelper {
         specialCharReplacements.put("<=", "Less_Than_Or_Equal_To");
         specialCharReplacements.put(">=", "Greater_Than_Or_Equal_To");
         specialCharReplacements.put("!=", "Not_Equal");
+        return specialCharReplacements;
     }
 }
 
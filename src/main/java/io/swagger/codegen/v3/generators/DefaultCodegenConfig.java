@@ -26,9 +26,13 @@ import io.swagger.codegen.v3.generators.handlebars.HasNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.NotEmptyHelper;
+import io.swagger.codegen.v3.generators.handlebars.StreamingHandlebarTemplateEngine;
 import io.swagger.codegen.v3.generators.handlebars.StringUtilHelper;
+import io.swagger.codegen.v3.generators.util.InheritanceGraph;
+import io.swagger.codegen.v3.generators.util.ModelRegistry;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
-import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
+import io.swagger.codegen.v3.generators.util.SchemaDependencies;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
 import io.swagger.codegen.v3.utils.ModelUtils;
@@ -36,6 +40,7 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -116,6 +121,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
     public static final String DEFAULT_TEMPLATE_DIR = "handlebars";
+    public static final String INCLUDE_TAGS = "includeTags";
+    public static final String INCLUDE_OPERATION_IDS = "includeOperationIds";
 
     protected OpenAPI openAPI;
     protected OpenAPI unflattenedOpenAPI;
@@ -125,7 +132,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected Set<String> defaultIncludes = new HashSet<String>();
     protected Map<String, String> typeMapping = new HashMap<String, String>();
     protected Map<String, String> instantiationTypes = new HashMap<String, String>();
-    protected Set<String> reservedWords = new HashSet<String>();
+    protected Set<String> reservedWords = new ReservedWords();
     protected Set<String> languageSpecificPrimitives = new HashSet<String>();
     protected Map<String, String> importMapping = new HashMap<String, String>();
     protected String modelPackage = StringUtils.EMPTY;
@@ -163,7 +170,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected String gitUserId, gitRepoId, releaseNote, gitRepoBaseURL;
     protected String httpUserAgent;
     protected Boolean hideGenerationTimestamp = true;
-    protected TemplateEngine templateEngine = new HandlebarTemplateEngine(this);
+    protected TemplateEngine templateEngine = new StreamingHandlebarTemplateEngine(this);
     // How to encode special characters like $
     // They are translated to words like "Dollar" and prefixed with '
     // Then translated back during JSON encoding and decoding
@@ -175,6 +182,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected boolean useOas2 = false;
     protected boolean copyFistAllOfProperties = false;
     protected boolean ignoreImportMapping;
+    protected ModelRegistry modelRegistry;
+    protected InheritanceGraph inheritanceGraph;
 
     public List<CliOption> cliOptions() {
         return cliOptions;
@@ -257,25 +266,34 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
-        // Index all CodegenModels by model name.
-        Map<String, CodegenModel> allModels = new HashMap<>();
-        for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
-            String modelName = toModelName(entry.getKey());
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                CodegenModel codegenModel = (CodegenModel) mo.get("model");
-                allModels.put(modelName, codegenModel);
-            }
-        }
-        postProcessAllCodegenModels(allModels);
+        postProcessAllCodegenModels(buildModelRegistry(processedModels).getModelsByName());
         return processedModels;
     }
 
+    /**
+     * Index all CodegenModels once, the registry is then available to every whole-model pass through
+     * {@link #getModelRegistry()}.
+     *
+     * @param processedModels processed models, as passed to {@link #postProcessAllModels(Map)}
+     * @return the registry of the processed models
+     */
+    protected ModelRegistry buildModelRegistry(Map<String, Object> processedModels) {
+        modelRegistry = new ModelRegistry(processedModels, this::toModelName);
+        return modelRegistry;
+    }
+
+    /**
+     * @return the registry built for the last {@link #postProcessAllModels(Map)} call, null before that
+     */
+    public ModelRegistry getModelRegistry() {
+        return modelRegistry;
+    }
+
     protected void postProcessAllCodegenModels(Map<String, CodegenModel> allModels) {
         if (supportsInheritance) {
-            for (String name : allModels.keySet()) {
-                final CodegenModel codegenModel = allModels.get(name);
+            inheritanceGraph = new InheritanceGraph(allModels);
+            // parents are fixed up before their children
+            for (CodegenModel codegenModel : inheritanceGraph.getTopologicalOrder()) {
                 fixUpParentAndInterfaces(codegenModel, allModels);
             }
         }
@@ -286,6 +304,22 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @param allModels
      */
     protected void fixUpParentAndInterfaces(CodegenModel codegenModel, Map<String, CodegenModel> allModels) {
+        if (inheritanceGraph != null && inheritanceGraph.contains(codegenModel)) {
+            if (codegenModel.parent != null) {
+                // null when the parent closes an inheritance cycle
+                codegenModel.parentModel = inheritanceGraph.getParent(codegenModel);
+            }
+            if (codegenModel.interfaces != null && !codegenModel.interfaces.isEmpty()) {
+                codegenModel.interfaceModels = new ArrayList<CodegenModel>(inheritanceGraph.getInterfaces(codegenModel));
+            }
+            for (CodegenModel ancestor : inheritanceGraph.getDiscriminatorBoundedAncestors(codegenModel)) {
+                if (ancestor.children == null) {
+                    ancestor.children = new ArrayList<CodegenModel>();
+                }
+                ancestor.children.add(codegenModel);
+            }
+            return;
+        }
         if (codegenModel.parent != null) {
             codegenModel.parentModel = allModels.get(codegenModel.parent);
         }
@@ -489,6 +523,76 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        filterOpenAPI(openAPI);
+    }
+
+    /**
+     * Keeps only the operations selected through the "includeTags" and "includeOperationIds" properties (comma
+     * separated) and the schemas they transitively depend on. Does nothing when neither property is set.
+     *
+     * @param openAPI the spec, filtered in place
+     */
+    protected void filterOpenAPI(OpenAPI openAPI) {
+        final Set<String> includeTags = getCommaSeparatedProperty(INCLUDE_TAGS);
+        final Set<String> includeOperationIds = getCommaSeparatedProperty(INCLUDE_OPERATION_IDS);
+        if (openAPI == null || openAPI.getPaths() == null || (includeTags.isEmpty() && includeOperationIds.isEmpty())) {
+            return;
+        }
+        final SchemaDependencies schemaDependencies = new SchemaDependencies(openAPI);
+        final Set<String> roots = new HashSet<>();
+        final Iterator<Map.Entry<String, PathItem>> paths = openAPI.getPaths().entrySet().iterator();
+        while (paths.hasNext()) {
+            final PathItem pathItem = paths.next().getValue();
+            for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
+                final Operation operation = entry.getValue();
+                if (isIncluded(operation, includeTags, includeOperationIds)) {
+                    roots.addAll(schemaDependencies.getOperationRefs(operation));
+                } else {
+                    pathItem.operation(entry.getKey(), null);
+                }
+            }
+            if (pathItem.readOperations().isEmpty()) {
+                paths.remove();
+            } else if (pathItem.getParameters() != null) {
+                for (Parameter parameter : pathItem.getParameters()) {
+                    roots.addAll(schemaDependencies.getOperationRefs(new Operation().addParametersItem(parameter)));
+                }
+            }
+        }
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            final Set<String> closure = schemaDependencies.getClosure(roots);
+            openAPI.getComponents().getSchemas().keySet().retainAll(closure);
+            LOGGER.info("Generating " + closure.size() + " schemas referenced by the selected operations");
+        }
+    }
+
+    private static boolean isIncluded(Operation operation, Set<String> includeTags, Set<String> includeOperationIds) {
+        if (operation.getOperationId() != null && includeOperationIds.contains(operation.getOperationId())) {
+            return true;
+        }
+        if (operation.getTags() == null || operation.getTags().isEmpty()) {
+            return includeTags.contains("default");
+        }
+        for (String tag : operation.getTags()) {
+            if (includeTags.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> getCommaSeparatedProperty(String name) {
+        final Object value = additionalProperties.get(name);
+        if (value == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> values = new HashSet<>();
+        for (String item : value.toString().split(",")) {
+            if (StringUtils.isNotBlank(item)) {
+                values.add(item.trim());
+            }
+        }
+        return values;
     }
 
     @Override
@@ -932,7 +1036,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
         instantiationTypes = new HashMap<String, String>();
 
-        reservedWords = new HashSet<>();
+        reservedWords = new ReservedWords();
 
         importMapping = getImportMappings();
 
@@ -2888,19 +2992,25 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected void setReservedWordsLowerCase(List<String> words) {
-        reservedWords = new HashSet<String>();
-        for (String word : words) {
-            reservedWords.add(word.toLowerCase());
-        }
+        reservedWords = ReservedWords.lowerCaseOf(words);
+    }
+
+    /**
+     * Sets a copy of reserved words built once per generator class, typically held in a static field
+     * built with {@link ReservedWords#lowerCaseOf(java.util.Collection)}.
+     *
+     * @param words reserved words of the generator class
+     */
+    protected void setReservedWords(ReservedWords words) {
+        reservedWords = new ReservedWords(words);
     }
 
     protected void setReservedWords(List<String> words) {
-        reservedWords = new HashSet<String>();
-        reservedWords.addAll(words);
+        reservedWords = new ReservedWords(words);
     }
 
     protected boolean isReservedWord(String word) {
-        return word != null && reservedWords.contains(word.toLowerCase());
+        return ReservedWords.containsLowerCase(reservedWords, word);
     }
 
     /**
@@ -4087,10 +4197,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         String templateEngineKey = additionalProperties.get(CodegenConstants.TEMPLATE_ENGINE) != null ? additionalProperties.get(CodegenConstants.TEMPLATE_ENGINE).toString() : null;
 
         if (templateEngineKey == null) {
-            templateEngine = new HandlebarTemplateEngine(this);
+            templateEngine = new StreamingHandlebarTemplateEngine(this);
         } else {
             if (CodegenConstants.HANDLEBARS_TEMPLATE_ENGINE.equalsIgnoreCase(templateEngineKey)) {
-                templateEngine = new HandlebarTemplateEngine(this);
+                templateEngine = new StreamingHandlebarTemplateEngine(this);
             } else {
                 templateEngine = new MustacheTemplateEngine(this);
             }
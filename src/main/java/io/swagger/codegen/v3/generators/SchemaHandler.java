@@ -11,9 +11,13 @@ import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class SchemaHandler implements ISchemaHandler {
 
@@ -24,6 +28,7 @@ public class SchemaHandler implements ISchemaHandler {
 
     protected DefaultCodegenConfig codegenConfig;
     private List<CodegenModel> composedModels = new ArrayList<>();
+    private Map<CodegenModel, Set<String>> subTypeNames = new IdentityHashMap<>();
 
     public SchemaHandler(DefaultCodegenConfig codegenConfig) {
         this.codegenConfig = codegenConfig;
@@ -191,11 +196,7 @@ public class SchemaHandler implements ISchemaHandler {
             final CodegenModel model = allModels.get(codegenConfig.toModelName(schemaName));
             this.addInterfaceModel(model, codegenModel);
 
-            boolean subTypeAdded = false;
-            if (codegenModel.getSubTypes() != null) {
-                subTypeAdded = codegenModel.getSubTypes().stream().anyMatch(existingSubType -> existingSubType.classname.equalsIgnoreCase(model.classname));
-            }
-            if (!subTypeAdded) {
+            if (getSubTypeNames(codegenModel).add(model.classname.toLowerCase(Locale.ROOT))) {
                 codegenModel.addSubType(model);
             }
 
@@ -214,6 +215,20 @@ public class SchemaHandler implements ISchemaHandler {
         }
     }
 
+    /**
+     * Lower case classnames of the sub types of a composed model, indexed on first use so that adding the
+     * members of wide oneOf/anyOf unions does not rescan the sub types for every member.
+     */
+    private Set<String> getSubTypeNames(CodegenModel codegenModel) {
+        return subTypeNames.computeIfAbsent(codegenModel, key -> {
+            final Set<String> names = new HashSet<>();
+            if (key.getSubTypes() != null) {
+                key.getSubTypes().forEach(subType -> names.add(subType.classname.toLowerCase(Locale.ROOT)));
+            }
+            return names;
+        });
+    }
+
     protected void configureModel(CodegenModel codegenModel, String name) {
         codegenModel.name = name;
         codegenModel.classname = codegenConfig.toModelName(name);
@@ -7,6 +7,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -27,6 +28,18 @@ import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public class DartClientCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+        Arrays.asList(
+            "abstract", "as", "assert", "async", "async*", "await",
+            "break", "case", "catch", "class", "const", "continue",
+            "default", "deferred", "do", "dynamic", "else", "enum",
+            "export", "external", "extends", "factory", "false", "final",
+            "finally", "for", "get", "if", "implements", "import", "in",
+            "is", "library", "new", "null", "operator", "part", "rethrow",
+            "return", "set", "static", "super", "switch", "sync*", "this",
+            "throw", "true", "try", "typedef", "var", "void", "while",
+            "int", "double", "with", "yield", "yield*" )
+    );
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DartClientCodegen.class);
 
@@ -65,18 +78,7 @@ public class DartClientCodegen extends DefaultCodegenConfig {
         // default HIDE_GENERATION_TIMESTAMP to true
         hideGenerationTimestamp = Boolean.TRUE;
 
-        setReservedWordsLowerCase(
-            Arrays.asList(
-                "abstract", "as", "assert", "async", "async*", "await",
-                "break", "case", "catch", "class", "const", "continue",
-                "default", "deferred", "do", "dynamic", "else", "enum",
-                "export", "external", "extends", "factory", "false", "final",
-                "finally", "for", "get", "if", "implements", "import", "in",
-                "is", "library", "new", "null", "operator", "part", "rethrow",
-                "return", "set", "static", "super", "switch", "sync*", "this",
-                "throw", "true", "try", "typedef", "var", "void", "while",
-                "int", "double", "with", "yield", "yield*" )
-        );
+        setReservedWords(RESERVED_WORDS);
 
         languageSpecificPrimitives = new HashSet<String>(
             Arrays.asList(
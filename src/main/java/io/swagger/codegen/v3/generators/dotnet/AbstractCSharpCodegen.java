@@ -15,8 +15,9 @@ import io.swagger.codegen.v3.generators.handlebars.lambda.IndentedLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.LowercaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.TitlecaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.UppercaseLambda;
+import io.swagger.codegen.v3.generators.util.ModelRegistry;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
-import io.swagger.codegen.v3.utils.ModelUtils;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -415,18 +416,17 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
      */
     @SuppressWarnings({ "unchecked" })
     private void postProcessEnumRefs(final Map<String, Object> models) {
+        final ModelRegistry modelRegistry = getModelRegistry();
         Map<String, CodegenModel> enumRefs = new HashMap<String, CodegenModel>();
-        for (Map.Entry<String, Object> entry : models.entrySet()) {
-            CodegenModel model = ModelUtils.getModelByName(entry.getKey(), models);
-            boolean isEnum = getBooleanValue(model, IS_ENUM_EXT_NAME);
+        for (Map.Entry<String, CodegenModel> entry : modelRegistry.getModelsBySchemaName().entrySet()) {
+            boolean isEnum = getBooleanValue(entry.getValue(), IS_ENUM_EXT_NAME);
             if (isEnum) {
-                enumRefs.put(entry.getKey(), model);
+                enumRefs.put(entry.getKey(), entry.getValue());
             }
         }
 
-        for (Map.Entry<String, Object> entry : models.entrySet()) {
-            String swaggerName = entry.getKey();
-            CodegenModel model = ModelUtils.getModelByName(swaggerName, models);
+        for (String swaggerName : models.keySet()) {
+            CodegenModel model = modelRegistry.getBySchemaName(swaggerName);
             if (model != null) {
                 for (CodegenProperty var : model.allVars) {
                     if (enumRefs.containsKey(var.datatype)) {
@@ -743,7 +743,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
     @Override
     protected boolean isReservedWord(String word) {
         // NOTE: This differs from super's implementation in that C# does _not_ want case insensitive matching.
-        return reservedWords.contains(word.toLowerCase());
+        return ReservedWords.containsLowerCase(reservedWords, word);
     }
 
     @Override
@@ -925,7 +925,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
 
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
         final CodegenModel codegenModel = super.fromModel(name, schema, allDefinitions);
-        if (typeMapping.containsKey(name.toLowerCase()) && isReservedWord(name.toLowerCase())) {
+        if (typeMapping.containsKey(name.toLowerCase()) && isReservedWord(name)) {
             typeMapping.remove(name.toLowerCase());
         }
         return codegenModel;
@@ -26,9 +26,16 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
 
+/**
+ * Builds example payloads from schemas.
+ * <p>
+ * Generated numbers do not depend on traversal order: each one is derived from a stable hash of the location of
+ * its schema and the property name, so examples stay the same when unrelated schemas are added and instances can
+ * be used from several threads without sharing a random source.
+ */
 public class ExampleGenerator {
 
     private static final Logger logger = LoggerFactory.getLogger(ExampleGenerator.class);
@@ -43,16 +50,17 @@ public class ExampleGenerator {
     private static final String NONE = "none";
     private static final String URL = "url";
     private static final String URI = "uri";
+    private static final String COMPONENTS_SCHEMAS_REF = "#/components/schemas/";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
 
     protected Map<String, Schema> examples;
-    private Random random;
     private OpenAPI openAPI;
 
     public ExampleGenerator(OpenAPI openAPI) {
         //this.examples = examples;
         this.openAPI = openAPI;
-        // use a fixed seed to make the "random" numbers reproducible.
-        this.random = new Random("ExampleGenerator".hashCode());
     }
 
     public List<Map<String, String>> generateFromSchema(Schema schema, Set<String> producesInfo) {
@@ -77,7 +85,7 @@ public class ExampleGenerator {
                 kv.put(CONTENT_TYPE, mediaType);
 
                 if (mediaType.startsWith(MIME_TYPE_JSON)) {
-                    String example = Json.pretty(resolveSchemaToExample("", mediaType, schema, processedModels));
+                    String example = Json.pretty(resolveSchemaToExample(rootPath(schema), "", mediaType, schema, processedModels));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -122,7 +130,7 @@ public class ExampleGenerator {
                 if (modelName != null && mediaType.startsWith(MIME_TYPE_JSON)) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = Json.pretty(resolveModelToExample(COMPONENTS_SCHEMAS_REF + modelName, modelName, mediaType, schema, processedModels));
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -156,7 +164,11 @@ public class ExampleGenerator {
         return output;
     }
 
-    private Object resolveSchemaToExample(String propertyName, String mediaType, Schema schema, Set<String> processedModels) {
+    /**
+     * @param path location of the schema: its reference, or the location of the enclosing schema followed by
+     *             the property (or "items", "additionalProperties") leading to it
+     */
+    private Object resolveSchemaToExample(String path, String propertyName, String mediaType, Schema schema, Set<String> processedModels) {
         if (processedModels.contains(schema.get$ref())) {
             return schema.getExample();
         }
@@ -200,7 +212,7 @@ public class ExampleGenerator {
                     arrayLength = 10;
                 }
                 Object[] objectProperties = new Object[arrayLength];
-                Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, processedModels);
+                Object objProperty = resolveSchemaToExample(path + "/items", propertyName, mediaType, innerType, processedModels);
                 for(int i=0; i < arrayLength; i++) {
                     objectProperties[i] = objProperty;
                 }
@@ -214,26 +226,26 @@ public class ExampleGenerator {
             Double min = schema.getMinimum() == null ? null : schema.getMinimum().doubleValue();
             Double max = schema.getMaximum() == null ? null : schema.getMaximum().doubleValue();
             if(SchemaTypeUtil.FLOAT_FORMAT.equals(schema.getFormat())) {
-                return (float) randomNumber(min, max);
+                return (float) randomNumber(path, propertyName, min, max);
             }
-            return randomNumber(min, max);
+            return randomNumber(path, propertyName, min, max);
         } else if (schema instanceof FileSchema) {
             return "";  // TODO
         } else if (schema instanceof IntegerSchema) {
             Double min = schema.getMinimum() == null ? null : schema.getMinimum().doubleValue();
             Double max = schema.getMaximum() == null ? null : schema.getMaximum().doubleValue();
             if(SchemaTypeUtil.INTEGER32_FORMAT.equals(schema.getFormat())) {
-                return (long) randomNumber(min, max);
+                return (long) randomNumber(path, propertyName, min, max);
             }
-            return (int) randomNumber(min, max);
+            return (int) randomNumber(path, propertyName, min, max);
         } else if (schema instanceof MapSchema && schema.getAdditionalProperties() != null && schema.getAdditionalProperties() instanceof Schema) {
             Map<String, Object> mp = new HashMap<String, Object>();
             if (schema.getName() != null) {
                 mp.put(schema.getName(),
-                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
+                        resolveSchemaToExample(path + "/additionalProperties", propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
             } else {
                 mp.put("key",
-                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
+                        resolveSchemaToExample(path + "/additionalProperties", propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
             }
             return mp;
         } else if (!StringUtils.isEmpty(schema.get$ref())) { // model
@@ -246,14 +258,15 @@ public class ExampleGenerator {
             if (model == null) { // couldn't find the model/schema
                 return "{}";
             }
-            return resolveSchemaToExample(propertyName, mediaType, model, processedModels);
+            // examples of a model do not depend on where it is referenced from
+            return resolveSchemaToExample(COMPONENTS_SCHEMAS_REF + simpleName, propertyName, mediaType, model, processedModels);
         } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
             Map<String, Object> values = new HashMap<>();
             if (schema.getProperties() != null) {
                 logger.debug("Creating example from model values");
                 for (Object propName : schema.getProperties().keySet()) {
                     Schema schemaProperty = (Schema) schema.getProperties().get(propName.toString());
-                    values.put(propName.toString(), resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, processedModels));
+                    values.put(propName.toString(), resolveSchemaToExample(path + "/" + propName, propName.toString(), mediaType, schemaProperty, processedModels));
                 }
                 schema.setExample(values);
             }
@@ -264,20 +277,52 @@ public class ExampleGenerator {
         return "";
     }
 
-    private double randomNumber(Double min, Double max) {
+    private double randomNumber(String path, String propertyName, Double min, Double max) {
+        // a generator per value, seeded from where the value is, keeps numbers independent of traversal order
+        final double random = new SplittableRandom(seed(path, propertyName)).nextDouble();
         if (min != null && max != null) {
             double range = max - min;
-            return random.nextDouble() * range + min;
+            return random * range + min;
         } else if (min != null) {
-            return random.nextDouble() + min;
+            return random + min;
         } else if (max != null) {
-            return random.nextDouble() * max;
+            return random * max;
         } else {
-            return random.nextDouble() * 10;
+            return random * 10;
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the schema location and the property name, stable across runs and JVMs.
+     */
+    static long seed(String path, String propertyName) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, path);
+        // separator, so that ("a/b", "c") and ("a", "b/c") differ
+        hash = (hash ^ 0xff) * FNV_PRIME;
+        return hash(hash, propertyName);
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return hash;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static String rootPath(Schema schema) {
+        if (StringUtils.isNotBlank(schema.get$ref())) {
+            return COMPONENTS_SCHEMAS_REF + OpenAPIUtil.getSimpleRef(schema.get$ref());
         }
+        return schema.getName() != null ? COMPONENTS_SCHEMAS_REF + schema.getName() : "";
     }
 
-    private Object resolveModelToExample(String name, String mediaType, Schema schema, Set<String> processedModels) {
+    private Object resolveModelToExample(String path, String name, String mediaType, Schema schema, Set<String> processedModels) {
         if (processedModels.contains(schema.get$ref())) {
             return schema.getExample();
         }
@@ -295,7 +340,7 @@ public class ExampleGenerator {
             logger.debug("Creating example from model values");
             for (Object propertyName : schema.getProperties().keySet()) {
                 schema.getProperties().get(propertyName.toString());
-                values.put(propertyName.toString(), resolveSchemaToExample(propertyName.toString(), mediaType, schema, processedModels));
+                values.put(propertyName.toString(), resolveSchemaToExample(path + "/" + propertyName, propertyName.toString(), mediaType, schema, processedModels));
             }
             schema.setExample(values);
         }
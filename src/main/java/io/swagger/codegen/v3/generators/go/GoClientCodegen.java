@@ -4,6 +4,7 @@ import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
@@ -14,6 +15,8 @@ import java.util.Arrays;
 import java.util.Map;
 
 public class GoClientCodegen extends AbstractGoCodegen {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(Arrays.asList("string", "bool", "uint", "uint8", "uint16", "uint32", "uint64", "int", "int8", "int16", "int32", "int64", "float32", "float64", "complex64", "complex128", "rune", "byte", "uintptr", "break", "default", "func", "interface", "select", "case", "defer", "go", "map", "struct", "chan", "else", "goto", "package", "switch", "const", "fallthrough", "if", "range", "type", "continue", "for", "import", "return", "var", "error", "ApiResponse", "nil"));
+
     protected String packageVersion = "1.0.0";
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
@@ -26,7 +29,7 @@ public class GoClientCodegen extends AbstractGoCodegen {
         this.modelDocTemplateFiles.put("model_doc.mustache", ".md");
         this.apiDocTemplateFiles.put("api_doc.mustache", ".md");
         this.hideGenerationTimestamp = Boolean.TRUE;
-        this.setReservedWordsLowerCase(Arrays.asList("string", "bool", "uint", "uint8", "uint16", "uint32", "uint64", "int", "int8", "int16", "int32", "int64", "float32", "float64", "complex64", "complex128", "rune", "byte", "uintptr", "break", "default", "func", "interface", "select", "case", "defer", "go", "map", "struct", "chan", "else", "goto", "package", "switch", "const", "fallthrough", "if", "range", "type", "continue", "for", "import", "return", "var", "error", "ApiResponse", "nil"));
+        this.setReservedWords(RESERVED_WORDS);
         this.cliOptions.add((new CliOption("packageVersion", "Go package version.")).defaultValue("1.0.0"));
         this.cliOptions.add(CliOption.newBoolean("withXml", "whether to include support for application/xml content type and include XML annotations in the model (works with libraries that provide support for JSON and XML)"));
     }
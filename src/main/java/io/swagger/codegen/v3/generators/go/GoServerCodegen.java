@@ -4,6 +4,7 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -14,6 +15,20 @@ import java.util.Arrays;
 import org.apache.commons.lang3.StringUtils;
 
 public class GoServerCodegen extends AbstractGoCodegen {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+        Arrays.asList(
+            // data type
+            "string", "bool", "uint", "uint8", "uint16", "uint32", "uint64",
+            "int", "int8", "int16", "int32", "int64", "float32", "float64",
+            "complex64", "complex128", "rune", "byte", "uintptr",
+
+            "break", "default", "func", "interface", "select",
+            "case", "defer", "go", "map", "struct",
+            "chan", "else", "goto", "package", "switch",
+            "const", "fallthrough", "if", "range", "type",
+            "continue", "for", "import", "return", "var", "error", "nil")
+            // Added "error" as it's used so frequently that it may as well be a keyword
+    );
 
     protected String apiVersion = "1.0.0";
     protected int serverPort = 8080;
@@ -48,20 +63,7 @@ public class GoServerCodegen extends AbstractGoCodegen {
         /*
          * Reserved words.  Override this with reserved words specific to your language
          */
-        setReservedWordsLowerCase(
-            Arrays.asList(
-                // data type
-                "string", "bool", "uint", "uint8", "uint16", "uint32", "uint64",
-                "int", "int8", "int16", "int32", "int64", "float32", "float64",
-                "complex64", "complex128", "rune", "byte", "uintptr",
-
-                "break", "default", "func", "interface", "select",
-                "case", "defer", "go", "map", "struct",
-                "chan", "else", "goto", "package", "switch",
-                "const", "fallthrough", "if", "range", "type",
-                "continue", "for", "import", "return", "var", "error", "nil")
-                // Added "error" as it's used so frequently that it may as well be a keyword
-        );
+        setReservedWords(RESERVED_WORDS);
     }
 
     @Override
@@ -0,0 +1,142 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.templates.CodegenTemplateLoader;
+import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Handlebars template engine able to render straight into a {@link Writer} or a destination file, so the
+ * largest outputs never exist as a single in-memory string.
+ * <p>
+ * Templates are compiled exactly as {@link HandlebarTemplateEngine} does, so the rendered content is the same.
+ * {@link #renderToFile(String, Map, File)} renders into a temporary file next to the destination while hashing the
+ * bytes, and only replaces the destination when its content actually changed.
+ */
+public class StreamingHandlebarTemplateEngine extends HandlebarTemplateEngine {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final CodegenConfig config;
+
+    public StreamingHandlebarTemplateEngine(CodegenConfig config) {
+        super(config);
+        this.config = config;
+    }
+
+    @Override
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        final StringWriter writer = new StringWriter();
+        render(templateFile, templateData, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Renders a template into the given writer. The writer is neither flushed nor closed.
+     *
+     * @param templateFile template file, as passed to {@link #getRendered(String, Map)}
+     * @param templateData data bundle of the template
+     * @param writer destination of the rendered content
+     * @throws IOException if the template can not be loaded or the writer fails
+     */
+    public void render(String templateFile, Map<String, Object> templateData, Writer writer) throws IOException {
+        compile(templateFile).apply(templateData, writer);
+    }
+
+    /**
+     * Renders a template into the given file (UTF-8), leaving the file untouched when it already has the
+     * rendered content.
+     *
+     * @param templateFile template file, as passed to {@link #getRendered(String, Map)}
+     * @param templateData data bundle of the template
+     * @param target destination file, parent directories are created if needed
+     * @return true if the file was written, false if it was already up to date
+     * @throws IOException if the template can not be loaded or the file can not be written
+     */
+    public boolean renderToFile(String templateFile, Map<String, Object> templateData, File target) throws IOException {
+        final Template template = compile(templateFile);
+        final Path targetPath = target.toPath().toAbsolutePath();
+        final Path parent = targetPath.getParent();
+        Files.createDirectories(parent);
+
+        final Path tempPath = Files.createTempFile(parent, target.getName(), ".tmp");
+        boolean moved = false;
+        try {
+            final MessageDigest digest = newDigest();
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath), BUFFER_SIZE), digest),
+                    StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                template.apply(templateData, writer);
+            }
+            if (isUnchanged(targetPath, tempPath, digest.digest())) {
+                return false;
+            }
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            moved = true;
+            return true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tempPath);
+            }
+        }
+    }
+
+    protected Template compile(String templateFile) throws IOException {
+        // a fresh Handlebars per template, as HandlebarTemplateEngine does: handlebars caches a partial together
+        // with the indentation of the call site it was first included from
+        templateFile = templateFile.replace("\\", "/");
+        final String templateDir = config.templateDir().replace("\\", "/");
+        final String customTemplateDir = config.customTemplateDir() != null ? config.customTemplateDir().replace("\\", "/") : null;
+        final CodegenTemplateLoader templateLoader = new CodegenTemplateLoader()
+                .templateDir(templateDir)
+                .customTemplateDir(customTemplateDir);
+        final Handlebars handlebars = new Handlebars(templateLoader);
+        handlebars.prettyPrint(true);
+        config.addHandlebarHelpers(handlebars);
+        return handlebars.compile(templateFile);
+    }
+
+    private static boolean isUnchanged(Path targetPath, Path renderedPath, byte[] renderedDigest) throws IOException {
+        if (!Files.isRegularFile(targetPath) || Files.size(targetPath) != Files.size(renderedPath)) {
+            return false;
+        }
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(targetPath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return Arrays.equals(digest.digest(), renderedDigest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,16 +8,125 @@ import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
+/**
+ * Java template helpers. Model, doc and test templates render the same models, so the strings derived from a model
+ * or property are cached on it the first time a template asks for them. Cached values are keyed by the template
+ * flags they depend on, as read from the template context, so templates rendered with other flags get their own.
+ */
 public class JavaHelper {
 
+    public static final String CLASS_DEFINITION_EXT_NAME = "x-java-class-definition";
+    public static final String JAVA_PROPERTY_EXT_NAME = "x-java-property";
+    public static final String JACKSON_XML_PROPERTY_EXT_NAME = "x-jackson-xml-property";
+    public static final String JACKSON_XML_ELEMENT_WRAPPER_EXT_NAME = "x-jackson-xml-element-wrapper";
+    public static final String MODEL_IMPORTS = "javaModelImports";
+
+    private static final String[] MODEL_IMPORT_FLAGS = {"supportJava6", "serializableModel", "jackson", "withXml", "parcelableModel", "useBeanValidation", "jakarta"};
+
     public CharSequence getClassDefinition(CodegenModel codegenModel, Options options) throws IOException {
         final Boolean serializableModel = options.get(CodegenConstants.SERIALIZABLE_MODEL) != null ? options.get(CodegenConstants.SERIALIZABLE_MODEL) : Boolean.FALSE;
         final Boolean parceableModel = options.get(JavaClientCodegen.PARCELABLE_MODEL) != null ? options.get(JavaClientCodegen.PARCELABLE_MODEL) : Boolean.FALSE;
+        final String flags = String.valueOf(serializableModel) + parceableModel;
+        return cached(codegenModel.vendorExtensions, CLASS_DEFINITION_EXT_NAME, flags, codegenModel,
+            () -> buildClassDefinition(codegenModel, serializableModel, parceableModel));
+    }
+
+    public CharSequence getJavaProperty(CodegenProperty codegenProperty, Options options) throws IOException {
+        return cached(codegenProperty.vendorExtensions, JAVA_PROPERTY_EXT_NAME, StringUtils.EMPTY, codegenProperty,
+            () -> buildJavaProperty(codegenProperty));
+    }
+
+    public CharSequence getModelImports(Map<String, Object> templateData, Options options) throws IOException {
+        if (options == null) {
+            return null;
+        }
+        final List<Map<String, String>> imports = options.get("imports");
+        if (imports == null || imports.isEmpty()) {
+            return null;
+        }
+        final StringBuilder flags = new StringBuilder();
+        for (String flag : MODEL_IMPORT_FLAGS) {
+            flags.append(isTrue(templateData.get(flag)) ? '1' : '0');
+        }
+        return cached(templateData, MODEL_IMPORTS, flags.toString(), imports, () -> buildModelImports(imports, templateData));
+    }
+
+    public CharSequence getXmlAttributeName(String xmlName, String baseName) {
+        if (StringUtils.isNotBlank(xmlName)) {
+            return xmlName;
+        }
+        return baseName;
+    }
+
+    public CharSequence getXmlElementName(String xmlNamespace, String  xmlName, String baseName) {
+        StringBuilder builder = new StringBuilder();
+        if (StringUtils.isNotBlank(xmlNamespace)) {
+            builder.append("namespace=\"");
+            builder.append(xmlNamespace);
+            builder.append("\", ");
+        }
+        builder.append("name=\"");
+        if (StringUtils.isNotBlank(xmlName)) {
+            builder.append(xmlName);
+        } else {
+            builder.append(baseName);
+        }
+        builder.append("\"");
+        return builder.toString();
+    }
+
+    public CharSequence getJacksonXmlProperty(CodegenProperty codegenProperty) {
+        return cached(codegenProperty.vendorExtensions, JACKSON_XML_PROPERTY_EXT_NAME, StringUtils.EMPTY, codegenProperty,
+            () -> buildJacksonXmlProperty(codegenProperty));
+    }
+
+    public CharSequence getJacksonXmlElementWrapper(CodegenProperty codegenProperty) {
+        return cached(codegenProperty.vendorExtensions, JACKSON_XML_ELEMENT_WRAPPER_EXT_NAME, StringUtils.EMPTY, codegenProperty,
+            () -> buildJacksonXmlElementWrapper(codegenProperty));
+    }
+
+    public CharSequence backslash() {
+        return "\\";
+    }
+
+    /**
+     * Returns the value cached in the holder under the name for these flags, computing it on the first call.
+     *
+     * @param holder map the cache is stored in (vendor extensions or template data)
+     * @param name key of the cache in the holder
+     * @param flags the template flags the value depends on
+     * @param source object the value is derived from, a cached value derived from another object is not used
+     * @param value computes the value
+     */
+    private static CharSequence cached(Map<String, Object> holder, String name, String flags, Object source, Supplier<CharSequence> value) {
+        Object cache = holder.get(name);
+        if (!(cache instanceof CachedValues) || ((CachedValues) cache).source != source) {
+            cache = new CachedValues(source);
+            holder.put(name, cache);
+        }
+        return ((CachedValues) cache).computeIfAbsent(flags, key -> value.get());
+    }
+
+    /**
+     * Values derived from one object, by the flags they were computed with. A map, so that vendor extensions and
+     * template data holding it can still be serialized.
+     */
+    private static final class CachedValues extends HashMap<String, CharSequence> {
+        private final transient Object source;
+
+        private CachedValues(Object source) {
+            this.source = source;
+        }
+    }
+
+    private static String buildClassDefinition(CodegenModel codegenModel, boolean serializableModel, boolean parceableModel) {
         final StringBuilder builder = new StringBuilder();
         builder.append(codegenModel.classname);
         if (StringUtils.isNotBlank(codegenModel.parent)) {
@@ -35,34 +144,24 @@ public class JavaHelper {
         return builder.toString();
     }
 
-    public CharSequence getJavaProperty(CodegenProperty codegenProperty, Options options) throws IOException {
+    private static String buildJavaProperty(CodegenProperty codegenProperty) {
         final StringBuilder builder = new StringBuilder();
-        if (getBooleanValue(codegenProperty, CodegenConstants.IS_CONTAINER_EXT_NAME)) {
-            builder.append(codegenProperty.getDatatypeWithEnum());
-            builder.append(StringUtils.SPACE);
-            builder.append(codegenProperty.getName());
-            builder.append(" = ");
-            if (codegenProperty.getRequired()) {
-                builder.append(codegenProperty.getDefaultValue());
-            } else {
-                builder.append("null");
-            }
-            return builder.toString();
+        builder.append(codegenProperty.getDatatypeWithEnum());
+        builder.append(StringUtils.SPACE);
+        builder.append(codegenProperty.getName());
+        builder.append(" = ");
+        if (getBooleanValue(codegenProperty, CodegenConstants.IS_CONTAINER_EXT_NAME) && !codegenProperty.getRequired()) {
+            builder.append("null");
+        } else {
+            builder.append(codegenProperty.getDefaultValue());
         }
-        return String.format("%s %s = %s", codegenProperty.getDatatypeWithEnum(), codegenProperty.getName(), codegenProperty.getDefaultValue());
+        return builder.toString();
     }
 
-    public CharSequence getModelImports(Map<String, Object> templateData, Options options) throws IOException {
-        if (options == null) {
-            return null;
-        }
-        final List<Map<String, String>> imports = options.get("imports");
-        if (imports == null || imports.isEmpty()) {
-            return null;
-        }
+    private static CharSequence buildModelImports(List<Map<String, String>> imports, Map<String, Object> flags) {
         final StringBuilder builder = new StringBuilder();
 
-        boolean supportJava6 = Boolean.valueOf(String.valueOf(templateData.get("supportJava6")));
+        boolean supportJava6 = isTrue(flags.get("supportJava6"));
         if (supportJava6) {
             builder.append("import org.apache.commons.lang3.ObjectUtils;\n");
         } else {
@@ -74,12 +173,12 @@ public class JavaHelper {
             builder.append(importMap.get("import"));
             builder.append(";\n");
         }
-        boolean serializableMode = Boolean.valueOf(String.valueOf(templateData.get("serializableModel")));
-        boolean jackson = Boolean.valueOf(String.valueOf(templateData.get("jackson")));
-        boolean withXml = Boolean.valueOf(String.valueOf(templateData.get("withXml")));
-        boolean parcelableModel = Boolean.valueOf(String.valueOf(templateData.get("parcelableModel")));
-        boolean useBeanValidation = Boolean.valueOf(String.valueOf(templateData.get("useBeanValidation")));
-        boolean jakarta = Boolean.valueOf(String.valueOf(templateData.get("jakarta")));
+        boolean serializableMode = isTrue(flags.get("serializableModel"));
+        boolean jackson = isTrue(flags.get("jackson"));
+        boolean withXml = isTrue(flags.get("withXml"));
+        boolean parcelableModel = isTrue(flags.get("parcelableModel"));
+        boolean useBeanValidation = isTrue(flags.get("useBeanValidation"));
+        boolean jakarta = isTrue(flags.get("jakarta"));
         if (serializableMode) {
             builder.append("import java.io.Serializable;\n");
         }
@@ -105,31 +204,7 @@ public class JavaHelper {
         return builder.toString();
     }
 
-    public CharSequence getXmlAttributeName(String xmlName, String baseName) {
-        if (StringUtils.isNotBlank(xmlName)) {
-            return xmlName;
-        }
-        return baseName;
-    }
-
-    public CharSequence getXmlElementName(String xmlNamespace, String  xmlName, String baseName) {
-        StringBuilder builder = new StringBuilder();
-        if (StringUtils.isNotBlank(xmlNamespace)) {
-            builder.append("namespace=\"");
-            builder.append(xmlNamespace);
-            builder.append("\", ");
-        }
-        builder.append("name=\"");
-        if (StringUtils.isNotBlank(xmlName)) {
-            builder.append(xmlName);
-        } else {
-            builder.append(baseName);
-        }
-        builder.append("\"");
-        return builder.toString();
-    }
-
-    public CharSequence getJacksonXmlProperty(CodegenProperty codegenProperty) {
+    private static String buildJacksonXmlProperty(CodegenProperty codegenProperty) {
         final boolean isXmlAttribute = getBooleanValue(codegenProperty, CodegenConstants.IS_XML_ATTRIBUTE_EXT_NAME);
         StringBuilder builder = new StringBuilder();
         if (isXmlAttribute) {
@@ -150,7 +225,7 @@ public class JavaHelper {
         return builder.toString();
     }
 
-    public CharSequence getJacksonXmlElementWrapper(CodegenProperty codegenProperty) {
+    private static String buildJacksonXmlElementWrapper(CodegenProperty codegenProperty) {
         final boolean isXmlWrapped = getBooleanValue(codegenProperty, CodegenConstants.IS_XML_WRAPPED_EXT_NAME);
         StringBuilder builder = new StringBuilder();
         builder.append("useWrapping = ");
@@ -171,7 +246,10 @@ public class JavaHelper {
         return builder.toString();
     }
 
-    public CharSequence backslash() {
-        return "\\";
+    private static boolean isTrue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null && Boolean.parseBoolean(value.toString());
     }
 }
@@ -1,16 +1,11 @@
 package io.swagger.codegen.v3.generators.handlebars.lambda;
 
-import com.github.jknack.handlebars.Lambda;
-import com.github.jknack.handlebars.Template;
 import io.swagger.codegen.v3.CodegenConfig;
 
-import java.io.IOException;
-import java.util.regex.Matcher;
-
 /**
  * @author Franz See <franz@see.net.ph> <https://see.net.ph>
  */
-public class EscapeDoubleQuotesLambda implements Lambda {
+public class EscapeDoubleQuotesLambda extends StreamingLambda {
 
     private CodegenConfig generator = null;
 
@@ -24,12 +19,18 @@ public class EscapeDoubleQuotesLambda implements Lambda {
     }
 
     @Override
-    public Object apply(Object o, Template template) throws IOException {
-        String text = template.apply(o);
-        if (text == null || text.length() == 0) {
-            return text;
+    protected void transform(CharSequence text, StringBuilder result) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"') {
+                result.append('\\');
+            }
+            result.append(c);
         }
-        text = text.replaceAll("\"", Matcher.quoteReplacement("\\\""));
+    }
+
+    @Override
+    protected Object complete(String text) {
         if (generator != null && generator.reservedWords().contains(text)) {
             text = generator.escapeReservedWord(text);
         }
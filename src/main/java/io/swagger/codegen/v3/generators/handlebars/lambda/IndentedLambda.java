@@ -1,10 +1,7 @@
 package io.swagger.codegen.v3.generators.handlebars.lambda;
 
-import com.github.jknack.handlebars.Lambda;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
-
 /**
  * This naively prepends indention to all lines of a fragment.
  * <p>
@@ -22,9 +19,12 @@ import java.io.IOException;
  *         {{#indent8}}{{>other_template}}{{/indent8}}
  * }</pre>
  */
-public class IndentedLambda implements Lambda {
+public class IndentedLambda extends StreamingLambda {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     private final int prefixSpaceCount;
     private int spaceCode;
+    private final String prefixedIndention;
 
     /**
      * Constructs a new instance of {@link io.swagger.codegen.mustache.IndentedLambda}, with an indent count of 4 spaces
@@ -59,33 +59,23 @@ public class IndentedLambda implements Lambda {
 
         this.prefixSpaceCount = prefixSpaceCount;
         this.spaceCode = indentionCodePoint;
+        this.prefixedIndention = StringUtils.repeat(new String(Character.toChars(spaceCode)), prefixSpaceCount);
     }
 
     @Override
-    public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-        String text = template.apply(o);
-        if (text == null || text.length() == 0) {
-            return text;
-        }
-
-        String prefixedIndention = StringUtils.repeat(new String(Character.toChars(spaceCode)), prefixSpaceCount);
-        StringBuilder sb = new StringBuilder();
-        String[] lines = text.split(System.lineSeparator());
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i];
-            // Mustache will apply correct indentation to the first line of a template (to match declaration location).
-            // So, we want to skip the first line.
-            if (i > 0) {
-                sb.append(prefixedIndention);
-            }
-
-            sb.append(line);
-
-            // We've split on the system's line separator. We don't want to add an additional trailing line.
-            if (i < lines.length - 1) {
-                sb.append(System.lineSeparator());
+    protected void transform(CharSequence text, StringBuilder sb) {
+        // as with text.split(LINE_SEPARATOR), trailing empty lines are dropped
+        final int end = TextBuffer.lengthWithoutTrailing(text, LINE_SEPARATOR);
+        int i = 0;
+        while (i < end) {
+            if (TextBuffer.regionMatches(text, i, LINE_SEPARATOR)) {
+                // Mustache will apply correct indentation to the first line of a template (to match declaration location).
+                // So, we only prefix the lines following a line separator.
+                sb.append(LINE_SEPARATOR).append(prefixedIndention);
+                i += LINE_SEPARATOR.length();
+            } else {
+                sb.append(text.charAt(i++));
             }
         }
-        return sb.toString();
     }
 }
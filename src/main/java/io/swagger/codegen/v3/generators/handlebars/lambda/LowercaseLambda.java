@@ -1,10 +1,7 @@
 package io.swagger.codegen.v3.generators.handlebars.lambda;
 
-import com.github.jknack.handlebars.Lambda;
 import io.swagger.codegen.v3.CodegenConfig;
 
-import java.io.IOException;
-
 /**
  * Converts text in a fragment to lowercase.
  *
@@ -18,7 +15,7 @@ import java.io.IOException;
  * {{#lowercase}}{{httpMethod}}{{/lowercase}}
  * </pre>
  */
-public class LowercaseLambda implements Lambda {
+public class LowercaseLambda extends StreamingLambda {
     private CodegenConfig generator = null;
 
     public LowercaseLambda() {
@@ -31,12 +28,12 @@ public class LowercaseLambda implements Lambda {
     }
 
     @Override
-    public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-        String text = template.apply(o);
-        if (text == null || text.length() == 0) {
-            return text;
-        }
-        text = text.toLowerCase();
+    protected void transform(CharSequence text, StringBuilder result) {
+        TextBuffer.appendLowerCase(text, result);
+    }
+
+    @Override
+    protected Object complete(String text) {
         if (generator != null && generator.reservedWords().contains(text)) {
             text = generator.escapeReservedWord(text);
         }
@@ -0,0 +1,50 @@
+package io.swagger.codegen.v3.generators.handlebars.lambda;
+
+import com.github.jknack.handlebars.Lambda;
+import com.github.jknack.handlebars.Template;
+
+import java.io.IOException;
+
+/**
+ * Base class of the lambdas transforming their rendered fragment char by char.
+ * <p>
+ * The fragment is rendered into a pooled buffer and transformed into a second pooled buffer, so an invocation
+ * only allocates its resulting string.
+ */
+public abstract class StreamingLambda implements Lambda {
+
+    @Override
+    public Object apply(Object o, Template template) throws IOException {
+        final TextBuffer fragment = TextBuffer.acquire();
+        final TextBuffer result = TextBuffer.acquire();
+        try {
+            template.apply(o, fragment);
+            if (fragment.length() == 0) {
+                return "";
+            }
+            transform(fragment.builder(), result.builder());
+            return complete(result.toString());
+        } finally {
+            result.release();
+            fragment.release();
+        }
+    }
+
+    /**
+     * Appends the transformed fragment to the result.
+     *
+     * @param fragment rendered fragment, never empty
+     * @param result buffer receiving the transformed text
+     */
+    protected abstract void transform(CharSequence fragment, StringBuilder result);
+
+    /**
+     * Last step on the transformed text, such as escaping reserved words.
+     *
+     * @param text transformed text
+     * @return value of the lambda
+     */
+    protected Object complete(String text) {
+        return text;
+    }
+}
@@ -0,0 +1,181 @@
+package io.swagger.codegen.v3.generators.handlebars.lambda;
+
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * Reusable writer over a {@link StringBuilder}, used by the lambdas to render their fragment and build their
+ * result without intermediate strings.
+ * <p>
+ * Buffers are pooled per thread. Lambdas nest (a partial wrapped in a lambda may use lambdas itself), so
+ * every {@link #acquire()} must be paired with a {@link #release()} in a finally block.
+ */
+final class TextBuffer extends Writer {
+
+    private static final int MAX_POOLED_CAPACITY = 256 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 8;
+
+    private static final ThreadLocal<Deque<TextBuffer>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // String.toLowerCase and toUpperCase only differ from the per char mapping of ASCII text in these languages
+    private static final boolean ASCII_CASE_MAPPING = !"tr".equals(Locale.getDefault().getLanguage())
+            && !"az".equals(Locale.getDefault().getLanguage())
+            && !"lt".equals(Locale.getDefault().getLanguage());
+
+    private final StringBuilder builder = new StringBuilder(256);
+
+    private TextBuffer() {
+    }
+
+    static TextBuffer acquire() {
+        final TextBuffer buffer = POOL.get().pollFirst();
+        return buffer != null ? buffer : new TextBuffer();
+    }
+
+    void release() {
+        final Deque<TextBuffer> pool = POOL.get();
+        if (builder.capacity() > MAX_POOLED_CAPACITY || pool.size() >= MAX_POOLED_BUFFERS) {
+            return;
+        }
+        builder.setLength(0);
+        pool.addFirst(this);
+    }
+
+    StringBuilder builder() {
+        return builder;
+    }
+
+    int length() {
+        return builder.length();
+    }
+
+    char charAt(int index) {
+        return builder.charAt(index);
+    }
+
+    /**
+     * @return true if {@code text} contains {@code token} at the given offset
+     */
+    static boolean regionMatches(CharSequence text, int offset, String token) {
+        if (offset + token.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (text.charAt(offset + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Length of the text once trailing repetitions of the separator are dropped, as {@link String#split(String)}
+     * does with trailing empty strings.
+     */
+    static int lengthWithoutTrailing(CharSequence text, String separator) {
+        int end = text.length();
+        while (end >= separator.length() && regionMatches(text, end - separator.length(), separator)) {
+            end -= separator.length();
+        }
+        return end;
+    }
+
+    /**
+     * Appends the lower case form of the text, equivalent to {@code out.append(text.toString().toLowerCase())}.
+     */
+    static void appendLowerCase(CharSequence text, StringBuilder out) {
+        if (!isAsciiCaseMappable(text)) {
+            out.append(text.toString().toLowerCase());
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+    }
+
+    /**
+     * Appends the upper case form of the text, equivalent to {@code out.append(text.toString().toUpperCase())}.
+     */
+    static void appendUpperCase(CharSequence text, StringBuilder out) {
+        if (!isAsciiCaseMappable(text)) {
+            out.append(text.toString().toUpperCase());
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            out.append(c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+        }
+    }
+
+    /**
+     * Appends the upper case form of a single char, equivalent to {@code String.valueOf(c).toUpperCase()}.
+     */
+    static void appendUpperCase(char c, StringBuilder out) {
+        if (ASCII_CASE_MAPPING && c < 0x80) {
+            out.append(c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+        } else {
+            out.append(String.valueOf(c).toUpperCase());
+        }
+    }
+
+    private static boolean isAsciiCaseMappable(CharSequence text) {
+        if (!ASCII_CASE_MAPPING) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        builder.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(int c) {
+        builder.append((char) c);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        builder.append(str, off, off + len);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) {
+        builder.append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) {
+        builder.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Writer append(char c) {
+        builder.append(c);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
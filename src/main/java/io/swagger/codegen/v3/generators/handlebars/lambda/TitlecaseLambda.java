@@ -1,9 +1,5 @@
 package io.swagger.codegen.v3.generators.handlebars.lambda;
 
-import com.github.jknack.handlebars.Lambda;
-
-import java.io.IOException;
-
 /**
  * Converts text in a fragment to title case.
  *
@@ -17,7 +13,7 @@ import java.io.IOException;
  * {{#titlecase}}{{classname}}{{/titlecase}}
  * </pre>
  */
-public class TitlecaseLambda implements Lambda {
+public class TitlecaseLambda extends StreamingLambda {
     private String delimiter;
 
     /**
@@ -40,31 +36,36 @@ public class TitlecaseLambda implements Lambda {
         this.delimiter = delimiter;
     }
 
-    private String titleCase(final String input) {
-        return input.substring(0, 1).toUpperCase() + input.substring(1);
-    }
-
     @Override
-    public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-        String text = template.apply(o);
-        if (text == null || text.length() == 0) {
-            return text;
-        }
+    protected void transform(CharSequence text, StringBuilder sb) {
         if (delimiter == null) {
-            return titleCase(text);
+            TextBuffer.appendUpperCase(text.charAt(0), sb);
+            sb.append(text, 1, text.length());
+            return;
+        }
+        if (delimiter.isEmpty()) {
+            // every char is a word of its own
+            for (int i = 0; i < text.length(); i++) {
+                TextBuffer.appendUpperCase(text.charAt(i), sb);
+            }
+            return;
         }
 
-        // Split accepts regex. \Q and \E wrap the delimiter to create a literal regex,
-        // so things like "." and "|" aren't treated as their regex equivalents.
-        StringBuffer sb = new StringBuffer();
-        String[] parts = text.split("\\Q" + delimiter + "\\E");
-        for (int i = 0; i < parts.length; i++) {
-            String part = parts[i];
-            sb.append(titleCase(part));
-            if (i != parts.length - 1) {
+        // as with text.split(delimiter), trailing delimiters are dropped
+        final int end = TextBuffer.lengthWithoutTrailing(text, delimiter);
+        boolean partStart = true;
+        int i = 0;
+        while (i < end) {
+            if (TextBuffer.regionMatches(text, i, delimiter)) {
                 sb.append(delimiter);
+                i += delimiter.length();
+                partStart = true;
+            } else if (partStart) {
+                TextBuffer.appendUpperCase(text.charAt(i++), sb);
+                partStart = false;
+            } else {
+                sb.append(text.charAt(i++));
             }
         }
-        return sb.toString();
     }
 }
@@ -1,9 +1,5 @@
 package io.swagger.codegen.v3.generators.handlebars.lambda;
 
-import com.github.jknack.handlebars.Lambda;
-
-import java.io.IOException;
-
 /**
  * Converts text in a fragment to uppercase.
  *
@@ -17,14 +13,10 @@ import java.io.IOException;
  * {{#uppercase}}{{summary}}{{/uppercase}}
  * </pre>
  */
-public class UppercaseLambda implements Lambda {
+public class UppercaseLambda extends StreamingLambda {
 
     @Override
-    public Object apply(Object o, com.github.jknack.handlebars.Template template) throws IOException {
-        String text = template.apply(o);
-        if (text == null || text.length() == 0) {
-            return text;
-        }
-        return text.toUpperCase();
+    protected void transform(CharSequence text, StringBuilder result) {
+        TextBuffer.appendUpperCase(text, result);
     }
 }
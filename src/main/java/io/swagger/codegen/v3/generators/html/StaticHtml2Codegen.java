@@ -1,5 +1,6 @@
 package io.swagger.codegen.v3.generators.html;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenConstants;
@@ -9,7 +10,9 @@ import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.codegen.v3.utils.Markdown;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.info.Info;
@@ -21,6 +24,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +37,8 @@ import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBoo
 public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(StaticHtml2Codegen.class);
 
+    public static final String PAGE_PER_TAG = "pagePerTag";
+
     protected String invokerPackage = "io.swagger.client"; // default for Java and Android
     protected String phpInvokerPackage = "Swagger\\Client"; // default for PHP
     protected String packageName = "IO.Swagger"; // default for C#
@@ -41,6 +49,7 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     protected String jsModuleName;
     protected String perlModuleName = "WWW::SwaggerClient";
     protected String pythonPackageName = "swagger_client";
+    protected boolean pagePerTag = false;
 
     public StaticHtml2Codegen() {
         super();
@@ -62,6 +71,7 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
         cliOptions.add(new CliOption(CodegenConstants.GROUP_ID, CodegenConstants.GROUP_ID_DESC));
         cliOptions.add(new CliOption(CodegenConstants.ARTIFACT_ID, CodegenConstants.ARTIFACT_ID_DESC));
         cliOptions.add(new CliOption(CodegenConstants.ARTIFACT_VERSION, CodegenConstants.ARTIFACT_VERSION_DESC));
+        cliOptions.add(CliOption.newBoolean(PAGE_PER_TAG, "Generate one page per tag with a landing page, a search index and shared assets instead of a single index.html. Response schemas are rendered lazily.").defaultValue(Boolean.FALSE.toString()));
 
         additionalProperties.put("appName", "Swagger Sample");
         additionalProperties.put("appDescription", "A sample swagger server");
@@ -79,12 +89,40 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
         additionalProperties.put(CodegenConstants.ARTIFACT_VERSION, artifactVersion);
 
         supportingFiles.add(new SupportingFile("index.mustache", "", "index.html"));
-        reservedWords = new HashSet<String>();
+        reservedWords = new ReservedWords();
 
         languageSpecificPrimitives = new HashSet<String>();
         importMapping = new HashMap<String, String>();
     }
 
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (additionalProperties.containsKey(PAGE_PER_TAG)) {
+            pagePerTag = convertPropertyToBooleanAndWriteBack(PAGE_PER_TAG);
+        }
+
+        if (pagePerTag) {
+            // models and library sources are shared by all pages instead of being inlined in each of them
+            supportingFiles.clear();
+            supportingFiles.add(new SupportingFile("index_paged.mustache", "", "index.html"));
+            supportingFiles.add(new SupportingFile("search_index.mustache", "", "search-index.js"));
+            supportingFiles.add(new SupportingFile("models_js.mustache", "", "models.js"));
+            supportingFiles.add(new SupportingFile("docs_js.mustache", "assets", "docs.js"));
+            supportingFiles.add(new SupportingFile("docs_css.mustache", "assets", "docs.css"));
+            apiTemplateFiles.put("api_page.mustache", ".html");
+        }
+    }
+
+    @Override
+    public String apiFileFolder() {
+        if (pagePerTag) {
+            return outputFolder + File.separator + "apis";
+        }
+        return super.apiFileFolder();
+    }
+
     @Override
     public CodegenType getTag() {
         return CodegenType.DOCUMENTATION;
@@ -146,9 +184,63 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
             }
             op.formParams = postProcessParameterEnum(op.formParams);
         }
+        if (pagePerTag && !operationList.isEmpty()) {
+            operations.put("pageFile", toApiFilename(operationList.get(0).baseName) + ".html");
+            operations.put("operationCount", operationList.size());
+        }
         return objs;
     }
 
+    @Override
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        if (pagePerTag) {
+            objs.put("searchIndex", buildSearchIndex(objs));
+        }
+        return super.postProcessSupportingFileData(objs);
+    }
+
+    /**
+     * Builds the search index of the paginated output. Tags and pages are stored once and referenced by
+     * position from each operation entry ([tag index, nickname, method, path, summary]) to keep the index small.
+     *
+     * @param objs supporting file data
+     * @return the search index as JSON
+     */
+    protected String buildSearchIndex(Map<String, Object> objs) {
+        final List<String> tags = new ArrayList<>();
+        final List<String> pages = new ArrayList<>();
+        final List<List<Object>> entries = new ArrayList<>();
+
+        final Map<String, Object> apiInfo = (Map<String, Object>) objs.get("apiInfo");
+        final List<Map<String, Object>> apis = apiInfo == null ? null : (List<Map<String, Object>>) apiInfo.get("apis");
+        if (apis != null) {
+            for (Map<String, Object> api : apis) {
+                final Map<String, Object> operations = (Map<String, Object>) api.get("operations");
+                final List<CodegenOperation> operationList = operations == null ? null : (List<CodegenOperation>) operations.get("operation");
+                if (operationList == null || operationList.isEmpty()) {
+                    continue;
+                }
+                final int tagIndex = tags.size();
+                tags.add(operationList.get(0).baseName);
+                pages.add((String) operations.get("pageFile"));
+                for (CodegenOperation op : operationList) {
+                    entries.add(Arrays.asList(tagIndex, op.nickname, op.httpMethod.toUpperCase(), op.path, op.summary));
+                }
+            }
+        }
+
+        final Map<String, Object> index = new HashMap<>();
+        index.put("tags", tags);
+        index.put("pages", pages);
+        index.put("operations", entries);
+        try {
+            return Json.mapper().writeValueAsString(index);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Could not write search index", e);
+            return "{\"tags\":[],\"pages\":[],\"operations\":[]}";
+        }
+    }
+
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
         super.preprocessOpenAPI(openAPI);
@@ -94,6 +94,7 @@ public abstract class AbstractJavaJAXRSServerCodegen extends AbstractJavaCodegen
     public void preprocessOpenAPI(OpenAPI openAPI) {
         //this.openAPIUtil = new OpenAPIUtil(openAPI);
         this.openAPI = openAPI;
+        filterOpenAPI(openAPI);
         if (!this.additionalProperties.containsKey("serverPort")) {
             final URL urlInfo = URLPathUtil.getServerURL(openAPI);
             String port = "8080"; // Default value for a JEE Server
@@ -2,6 +2,7 @@ package io.swagger.codegen.v3.generators.java;
 
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenContent;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
@@ -20,6 +21,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -29,13 +31,60 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import static io.swagger.codegen.v3.CodegenConstants.IS_ALIAS_EXT_NAME;
+import static io.swagger.codegen.v3.CodegenConstants.IS_ARRAY_MODEL_EXT_NAME;
 import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
+import static io.swagger.codegen.v3.CodegenConstants.IS_MAP_CONTAINER_EXT_NAME;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 import static java.util.Collections.sort;
 
 public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValidationFeatures, PerformBeanValidationFeatures, GzipFeatures, NotNullAnnotationFeatures {
     static final String MEDIA_TYPE = "mediaType";
 
+    /**
+     * Expressions reading the simple property types from a JsonReader named "in", used by the generated Gson
+     * TypeAdapters. Values of these types are written through JsonWriter.value.
+     */
+    private static final Map<String, String> GSON_PROPERTY_READERS = new HashMap<>();
+
+    static {
+        GSON_PROPERTY_READERS.put("String", "in.nextString()");
+        GSON_PROPERTY_READERS.put("Boolean", "in.nextBoolean()");
+        GSON_PROPERTY_READERS.put("Integer", "in.nextInt()");
+        GSON_PROPERTY_READERS.put("Long", "in.nextLong()");
+        GSON_PROPERTY_READERS.put("Float", "(float) in.nextDouble()");
+        GSON_PROPERTY_READERS.put("Double", "in.nextDouble()");
+        GSON_PROPERTY_READERS.put("BigDecimal", "new BigDecimal(in.nextString())");
+    }
+
+    /**
+     * Expressions reading the simple property types from a JsonParser named "p", and the JsonGenerator methods
+     * writing them, used by the generated Jackson serializers.
+     */
+    private static final Map<String, String[]> JACKSON_PROPERTY_READERS_AND_WRITERS = new HashMap<>();
+
+    static {
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("String", new String[] {"p.getValueAsString()", "writeString"});
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("Boolean", new String[] {"p.getBooleanValue()", "writeBoolean"});
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("Integer", new String[] {"p.getIntValue()", "writeNumber"});
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("Long", new String[] {"p.getLongValue()", "writeNumber"});
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("Float", new String[] {"p.getFloatValue()", "writeNumber"});
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("Double", new String[] {"p.getDoubleValue()", "writeNumber"});
+        JACKSON_PROPERTY_READERS_AND_WRITERS.put("BigDecimal", new String[] {"p.getDecimalValue()", "writeNumber"});
+    }
+
+    /**
+     * Expressions converting the page token of a Paginator (a String named "token") to the type of the
+     * paginated request parameter.
+     */
+    private static final Map<String, String> PAGINATION_TOKEN_CONVERTERS = new HashMap<>();
+
+    static {
+        PAGINATION_TOKEN_CONVERTERS.put("String", "token");
+        PAGINATION_TOKEN_CONVERTERS.put("Integer", "token == null ? null : Integer.valueOf(token)");
+        PAGINATION_TOKEN_CONVERTERS.put("Long", "token == null ? null : Long.valueOf(token)");
+    }
+
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaClientCodegen.class);
 
     public static final String USE_RX_JAVA = "useRxJava";
@@ -46,12 +95,21 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     public static final String PLAY_VERSION = "playVersion";
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
+    public static final String BUFFER_RESPONSE_BODY = "bufferResponseBody";
+    public static final String GSON_TYPE_ADAPTERS = "gsonTypeAdapters";
+    public static final String JACKSON_SERIALIZERS = "jacksonSerializers";
+    public static final String POOLED_CONNECTIONS = "pooledConnections";
+    public static final String STREAM_BINARY_BODIES = "streamBinaryBodies";
+    public static final String RESPONSE_CACHE = "responseCache";
+    public static final String API_METRICS = "apiMetrics";
+    public static final String X_PAGINATION = "x-pagination";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
 
     public static final String RETROFIT_1 = "retrofit";
     public static final String RETROFIT_2 = "retrofit2";
+    public static final String NATIVE = "native";
 
     protected String gradleWrapperPackage = "gradle.wrapper";
     protected boolean useRxJava = false;
@@ -65,6 +123,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     protected boolean performBeanValidation = false;
     protected boolean useGzipFeature = false;
     protected boolean useRuntimeException = false;
+    protected boolean bufferResponseBody = false;
+    protected boolean gsonTypeAdapters = false;
+    protected boolean jacksonSerializers = false;
+    protected boolean pooledConnections = false;
+    protected boolean streamBinaryBodies = false;
+    protected boolean responseCache = false;
+    protected boolean apiMetrics = false;
+    protected boolean paginatorAdded = false;
     private boolean notNullJacksonAnnotation = false;
 
 
@@ -86,6 +152,13 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Perform BeanValidation"));
         cliOptions.add(CliOption.newBoolean(USE_GZIP_FEATURE, "Send gzip-encoded requests"));
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
+        cliOptions.add(CliOption.newBoolean(BUFFER_RESPONSE_BODY, "Read JSON responses into a String before deserializing them instead of streaming them, with the okhttp-gson and okhttp4-gson libraries (useful for debugging)"));
+        cliOptions.add(CliOption.newBoolean(GSON_TYPE_ADAPTERS, "Generate a Gson TypeAdapter for every model instead of relying on reflection, with the okhttp-gson, okhttp4-gson and retrofit2 libraries"));
+        cliOptions.add(CliOption.newBoolean(JACKSON_SERIALIZERS, "Generate a Jackson serializer and deserializer for every model instead of relying on bean introspection, with the jersey2, jersey3, resteasy, resttemplate, feign and native libraries"));
+        cliOptions.add(CliOption.newBoolean(POOLED_CONNECTIONS, "Send requests through a pooled Apache HttpClient with connection limits, idle connection eviction and keep-alive settings on the ApiClient, with the resttemplate and jersey2 libraries"));
+        cliOptions.add(CliOption.newBoolean(STREAM_BINARY_BODIES, "Stream binary responses and binary request bodies as InputStream instead of downloading them into temporary files or byte arrays, with the okhttp-gson and okhttp4-gson libraries"));
+        cliOptions.add(CliOption.newBoolean(RESPONSE_CACHE, "Cache the deserialized responses of GET requests in the ApiClient, revalidated with their ETag and expiring as their Cache-Control header says, with the okhttp-gson, okhttp4-gson and native libraries"));
+        cliOptions.add(CliOption.newBoolean(API_METRICS, "Report the status, sizes and serialization, network and deserialization times of every API call to an ApiMetrics listener of the ApiClient, with a latency histogram per operation, with the okhttp-gson, okhttp4-gson and native libraries"));
 
         supportedLibraries.put("jersey1", "HTTP client: Jersey client 1.19.4. JSON processing: Jackson 2.10.1. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put("feign", "HTTP client: OpenFeign 9.4.0. JSON processing: Jackson 2.10.1");
@@ -97,6 +170,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         supportedLibraries.put(RETROFIT_2, "HTTP client: OkHttp 3.8.0. JSON processing: Gson 2.6.1 (Retrofit 2.3.0). Enable the RxJava adapter using '-DuseRxJava[2]=true'. (RxJava 1.x or 2.x)");
         supportedLibraries.put("resttemplate", "HTTP client: Spring RestTemplate 4.3.9-RELEASE. JSON processing: Jackson 2.9.9");
         supportedLibraries.put("resteasy", "HTTP client: Resteasy client 3.1.3.Final. JSON processing: Jackson 2.9.9");
+        supportedLibraries.put(NATIVE, "HTTP client: Java 11 java.net.http.HttpClient, with blocking and CompletableFuture based methods. JSON processing: Jackson 2.10.1");
 
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
         libraryOption.setEnum(supportedLibraries);
@@ -131,6 +205,11 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             dateLibrary = "java8";
             additionalProperties.put(JAKARTA, true);
         }
+        if (NATIVE.equalsIgnoreCase(library)) {
+            dateLibrary = "java8";
+            // java.net.http needs java 11, use java.util.Base64 and friends whatever the date library
+            additionalProperties.put(JAVA8_MODE, true);
+        }
 
         super.processOpts();
 
@@ -179,6 +258,34 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             this.setUseRuntimeException(convertPropertyToBooleanAndWriteBack(USE_RUNTIME_EXCEPTION));
         }
 
+        if (additionalProperties.containsKey(BUFFER_RESPONSE_BODY)) {
+            this.setBufferResponseBody(convertPropertyToBooleanAndWriteBack(BUFFER_RESPONSE_BODY));
+        }
+
+        if (additionalProperties.containsKey(GSON_TYPE_ADAPTERS)) {
+            this.setGsonTypeAdapters(convertPropertyToBooleanAndWriteBack(GSON_TYPE_ADAPTERS));
+        }
+
+        if (additionalProperties.containsKey(JACKSON_SERIALIZERS)) {
+            this.setJacksonSerializers(convertPropertyToBooleanAndWriteBack(JACKSON_SERIALIZERS));
+        }
+
+        if (additionalProperties.containsKey(POOLED_CONNECTIONS)) {
+            this.setPooledConnections(convertPropertyToBooleanAndWriteBack(POOLED_CONNECTIONS));
+        }
+
+        if (additionalProperties.containsKey(STREAM_BINARY_BODIES)) {
+            this.setStreamBinaryBodies(convertPropertyToBooleanAndWriteBack(STREAM_BINARY_BODIES));
+        }
+
+        if (additionalProperties.containsKey(RESPONSE_CACHE)) {
+            this.setResponseCache(convertPropertyToBooleanAndWriteBack(RESPONSE_CACHE));
+        }
+
+        if (additionalProperties.containsKey(API_METRICS)) {
+            this.setApiMetrics(convertPropertyToBooleanAndWriteBack(API_METRICS));
+        }
+
         final String invokerFolder = (sourceFolder + File.separator + invokerPackage).replace(".", File.separator);
         final String authFolder = (sourceFolder + File.separator + invokerPackage + ".auth").replace(".", File.separator);
         final String apiFolder = (sourceFolder + File.separator + apiPackage).replace(".", File.separator);
@@ -186,7 +293,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         //Common files
         writeOptional(outputFolder, new SupportingFile("pom.mustache", "", "pom.xml"));
         writeOptional(outputFolder, new SupportingFile("README.mustache", "", "README.md"));
-        if (java11Mode) {
+        if (java11Mode || NATIVE.equals(getLibrary())) {
             writeOptional(outputFolder, new SupportingFile("build.gradle.java11.mustache", "", "build.gradle"));
         } else {
             writeOptional(outputFolder, new SupportingFile("build.gradle.mustache", "", "build.gradle"));
@@ -245,6 +352,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             supportingFiles.add(new SupportingFile("ProgressRequestBody.mustache", invokerFolder, "ProgressRequestBody.java"));
             supportingFiles.add(new SupportingFile("ProgressResponseBody.mustache", invokerFolder, "ProgressResponseBody.java"));
             supportingFiles.add(new SupportingFile("GzipRequestInterceptor.mustache", invokerFolder, "GzipRequestInterceptor.java"));
+            if (StringUtils.isNotEmpty(getLibrary())) {
+                final String testInvokerFolder = (testFolder + File.separator + invokerPackage).replace(".", File.separator);
+                writeOptional(outputFolder, new SupportingFile("ApiClientBenchmark.mustache", testInvokerFolder, "ApiClientBenchmark.java"));
+            }
             additionalProperties.put("gson", "true");
         } else if (usesAnyRetrofitLibrary()) {
             supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
@@ -256,6 +367,11 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         } else if ("jersey3".equals(getLibrary()) || "jersey2".equals(getLibrary()) || "resteasy".equals(getLibrary()))  {
             supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
             additionalProperties.put("jackson", "true");
+        } else if (NATIVE.equals(getLibrary())) {
+            supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
+            final String testInvokerFolder = (testFolder + File.separator + invokerPackage).replace(".", File.separator);
+            writeOptional(outputFolder, new SupportingFile("ApiClientBenchmark.mustache", testInvokerFolder, "ApiClientBenchmark.java"));
+            additionalProperties.put("jackson", "true");
         } else if("jersey1".equals(getLibrary())) {
             additionalProperties.put("jackson", "true");
         } else if("resttemplate".equals(getLibrary())) {
@@ -303,6 +419,59 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             additionalProperties.remove("gson");
         }
 
+        if (gsonTypeAdapters) {
+            if (additionalProperties.containsKey("gson") && !RETROFIT_1.equals(getLibrary())) {
+                supportingFiles.add(new SupportingFile("GsonTypeAdapterFactory.mustache", invokerFolder, "GsonTypeAdapterFactory.java"));
+            } else {
+                LOGGER.warn(GSON_TYPE_ADAPTERS + " is only supported by the okhttp-gson, okhttp4-gson and retrofit2 libraries");
+                setGsonTypeAdapters(false);
+                additionalProperties.put(GSON_TYPE_ADAPTERS, false);
+            }
+        }
+
+        if (jacksonSerializers) {
+            if (additionalProperties.containsKey("jackson") && !usePlayWS && !"jersey1".equals(getLibrary())) {
+                supportingFiles.add(new SupportingFile("JacksonModelModule.mustache", invokerFolder, "JacksonModelModule.java"));
+            } else {
+                LOGGER.warn(JACKSON_SERIALIZERS + " is only supported by the jersey2, jersey3, resteasy, resttemplate, feign and native libraries");
+                setJacksonSerializers(false);
+                additionalProperties.put(JACKSON_SERIALIZERS, false);
+            }
+        }
+
+        if (pooledConnections && !("resttemplate".equals(getLibrary()) || "jersey2".equals(getLibrary()))) {
+            LOGGER.warn(POOLED_CONNECTIONS + " is only supported by the resttemplate and jersey2 libraries");
+            setPooledConnections(false);
+            additionalProperties.put(POOLED_CONNECTIONS, false);
+        }
+
+        if (streamBinaryBodies && !("okhttp-gson".equals(getLibrary()) || "okhttp4-gson".equals(getLibrary()))) {
+            LOGGER.warn(STREAM_BINARY_BODIES + " is only supported by the okhttp-gson and okhttp4-gson libraries");
+            setStreamBinaryBodies(false);
+            additionalProperties.put(STREAM_BINARY_BODIES, false);
+        }
+
+        if (responseCache) {
+            if ("okhttp-gson".equals(getLibrary()) || "okhttp4-gson".equals(getLibrary()) || NATIVE.equals(getLibrary())) {
+                supportingFiles.add(new SupportingFile("ResponseCache.mustache", invokerFolder, "ResponseCache.java"));
+            } else {
+                LOGGER.warn(RESPONSE_CACHE + " is only supported by the okhttp-gson, okhttp4-gson and native libraries");
+                setResponseCache(false);
+                additionalProperties.put(RESPONSE_CACHE, false);
+            }
+        }
+
+        if (apiMetrics) {
+            if ("okhttp-gson".equals(getLibrary()) || "okhttp4-gson".equals(getLibrary()) || NATIVE.equals(getLibrary())) {
+                supportingFiles.add(new SupportingFile("ApiMetrics.mustache", invokerFolder, "ApiMetrics.java"));
+                supportingFiles.add(new SupportingFile("LatencyHistogram.mustache", invokerFolder, "LatencyHistogram.java"));
+            } else {
+                LOGGER.warn(API_METRICS + " is only supported by the okhttp-gson, okhttp4-gson and native libraries");
+                setApiMetrics(false);
+                additionalProperties.put(API_METRICS, false);
+            }
+        }
+
         if (additionalProperties.containsKey("jackson")) {
             supportingFiles.add(new SupportingFile("RFC3339DateFormat.mustache", invokerFolder, "RFC3339DateFormat.java"));
             if ("threetenbp".equals(dateLibrary) && !usePlayWS) {
@@ -373,6 +542,42 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
 
         }
 
+        if (streamBinaryBodies) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            if (operations != null) {
+                for (CodegenOperation operation : (List<CodegenOperation>) operations.get("operation")) {
+                    prepareBinaryStreaming(operation);
+                }
+            }
+        }
+
+        Map<String, Object> paginatedOperations = (Map<String, Object>) objs.get("operations");
+        if (paginatedOperations != null) {
+            for (CodegenOperation operation : (List<CodegenOperation>) paginatedOperations.get("operation")) {
+                if (!operation.getVendorExtensions().containsKey(X_PAGINATION)) {
+                    continue;
+                }
+                if (!supportsPagination()) {
+                    LOGGER.warn(X_PAGINATION + " of " + operation.operationId + " is ignored, iterators over paginated operations are not supported by the " + getLibrary() + " library");
+                    continue;
+                }
+                final CodegenModel responseModel = operation.returnType == null || getModelRegistry() == null ? null : getModelRegistry().getByClassname(operation.returnType);
+                if (!preparePagination(operation, responseModel)) {
+                    continue;
+                }
+                // the item type may only be referenced by the page model
+                final String itemImport = (String) operation.getVendorExtensions().get("x-pagination-item-import");
+                if (itemImport != null) {
+                    addOperationImport((List<Map<String, String>>) objs.get("imports"), itemImport);
+                }
+                if (!paginatorAdded) {
+                    final String invokerFolder = (sourceFolder + File.separator + invokerPackage).replace(".", File.separator);
+                    supportingFiles.add(new SupportingFile("Paginator.mustache", invokerFolder, "Paginator.java"));
+                    paginatorAdded = true;
+                }
+            }
+        }
+
         // camelize path variables for Feign client
         if ("feign".equals(getLibrary())) {
             Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
@@ -480,18 +685,321 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> allProcessedModels = super.postProcessAllModels(objs);
         if(!additionalProperties.containsKey("gsonFactoryMethod")) {
-            List<Object> allModels = new ArrayList<Object>();
-            for (String name: allProcessedModels.keySet()) {
-                Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
-                try {
-                    allModels.add(((List<Object>) models.get("models")).get(0));
-                } catch (Exception e){
-                    e.printStackTrace();
+            additionalProperties.put("parent", modelInheritanceSupportInGson(getModelRegistry().getModelEntries()));
+        }
+        if (gsonTypeAdapters) {
+            additionalProperties.put("gsonTypeAdapterModels", prepareGsonTypeAdapters(getModelRegistry().getModels()));
+        }
+        if (jacksonSerializers) {
+            additionalProperties.put("jacksonSerializerModels", prepareJacksonSerializers(getModelRegistry().getModels()));
+        }
+        return allProcessedModels;
+    }
+
+    /**
+     * Flags the models getting a generated Gson TypeAdapter and sets what their adapters need as vendor extensions:
+     * the adapter of the parent, the classes by discriminator value and how to read simple properties directly.
+     *
+     * @param allModels all models
+     * @return the models getting an adapter, as classname entries for GsonTypeAdapterFactory
+     */
+    protected List<Map<String, Object>> prepareGsonTypeAdapters(Collection<CodegenModel> allModels) {
+        final List<Map<String, Object>> adapterModels = new ArrayList<>();
+        for (CodegenModel codegenModel : allModels) {
+            if (!supportsGsonTypeAdapter(codegenModel)) {
+                continue;
+            }
+            codegenModel.getVendorExtensions().put("x-gson-type-adapter", Boolean.TRUE);
+            if (codegenModel.parentModel != null) {
+                codegenModel.getVendorExtensions().put("x-gson-parent-type-adapter", codegenModel.parentModel.classname);
+            }
+            if (codegenModel.discriminator != null) {
+                codegenModel.getVendorExtensions().put("x-gson-discriminator", Boolean.TRUE);
+                codegenModel.getVendorExtensions().put("x-gson-subtypes", gsonSubtypes(codegenModel, allModels));
+            }
+            for (CodegenProperty codegenProperty : codegenModel.vars) {
+                final String read = GSON_PROPERTY_READERS.get(codegenProperty.datatypeWithEnum);
+                if (read != null) {
+                    codegenProperty.getVendorExtensions().put("x-gson-read", read);
                 }
             }
-            additionalProperties.put("parent", modelInheritanceSupportInGson(allModels));
+            final Map<String, Object> adapterModel = new HashMap<>();
+            adapterModel.put("classname", codegenModel.classname);
+            adapterModels.add(adapterModel);
         }
-        return allProcessedModels;
+        return adapterModels;
+    }
+
+    /**
+     * Reads the {@code x-pagination} extension of an operation and sets what the paginatedOperation template
+     * needs to generate the iterator and stream methods over all pages:
+     * <pre>
+     * x-pagination:
+     *   strategy: cursor   # cursor (default), offset or link
+     *   param: cursor      # request parameter carrying the cursor or offset of the page
+     *   items: data        # response property holding the items of the page
+     *   next: nextCursor   # cursor and link: response property holding the next cursor or the link to the next page
+     *   limitParam: limit  # offset (optional): request parameter holding the page size
+     * </pre>
+     *
+     * @param operation operation with an x-pagination extension
+     * @param responseModel model returned by the operation, null if it does not return a model
+     * @return true if the operation gets iterator methods, false if the extension cannot be applied
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean preparePagination(CodegenOperation operation, CodegenModel responseModel) {
+        final Object extension = operation.getVendorExtensions().get(X_PAGINATION);
+        if (!(extension instanceof Map)) {
+            LOGGER.warn(X_PAGINATION + " of " + operation.operationId + " must be an object");
+            return false;
+        }
+        final Map<String, Object> pagination = (Map<String, Object>) extension;
+        final String strategy = pagination.get("strategy") == null ? "cursor" : pagination.get("strategy").toString();
+        final String param = pagination.get("param") == null ? null : pagination.get("param").toString();
+        final String items = pagination.get("items") == null ? null : pagination.get("items").toString();
+        final String next = pagination.get("next") == null ? null : pagination.get("next").toString();
+        final String limitParam = pagination.get("limitParam") == null ? null : pagination.get("limitParam").toString();
+
+        if (responseModel == null || param == null || items == null) {
+            LOGGER.warn(X_PAGINATION + " of " + operation.operationId + " needs a model response, 'param' and 'items'");
+            return false;
+        }
+        final CodegenProperty itemsProperty = findProperty(responseModel, items);
+        if (itemsProperty == null || itemsProperty.items == null) {
+            LOGGER.warn(X_PAGINATION + " of " + operation.operationId + ": " + responseModel.classname + " has no array property " + items);
+            return false;
+        }
+        final CodegenParameter tokenParameter = findParameter(operation.allParams, param);
+        final String tokenConverter = tokenParameter == null ? null : PAGINATION_TOKEN_CONVERTERS.get(tokenParameter.dataType);
+        if (tokenConverter == null) {
+            LOGGER.warn(X_PAGINATION + " of " + operation.operationId + " needs a String, Integer or Long parameter " + param);
+            return false;
+        }
+        final String paginator = invokerPackage + ".Paginator";
+        final String pageItems = "page." + itemsProperty.getter + "()";
+        String first = "null";
+        final String nextToken;
+        if ("offset".equals(strategy)) {
+            final CodegenParameter limitParameter = limitParam == null ? null : findParameter(operation.allParams, limitParam);
+            first = "\"0\"";
+            nextToken = paginator + ".offset(token, " + pageItems + ", " + (limitParameter == null ? "null" : limitParameter.paramName) + ")";
+        } else if ("cursor".equals(strategy) || "link".equals(strategy)) {
+            final CodegenProperty nextProperty = next == null ? null : findProperty(responseModel, next);
+            if (nextProperty == null) {
+                LOGGER.warn(X_PAGINATION + " of " + operation.operationId + ": " + responseModel.classname + " has no property " + next);
+                return false;
+            }
+            if ("cursor".equals(strategy)) {
+                nextToken = paginator + ".cursor(page." + nextProperty.getter + "())";
+            } else {
+                nextToken = paginator + ".link(page." + nextProperty.getter + "(), \"" + tokenParameter.baseName + "\")";
+            }
+        } else {
+            LOGGER.warn(X_PAGINATION + " of " + operation.operationId + " has an unknown strategy " + strategy);
+            return false;
+        }
+
+        operation.getVendorExtensions().put("x-pagination-iterator", Boolean.TRUE);
+        operation.getVendorExtensions().put("x-pagination-item-type", itemsProperty.items.datatypeWithEnum);
+        final String itemType = itemsProperty.items.complexType;
+        if (importMapping.containsKey(itemType)) {
+            operation.getVendorExtensions().put("x-pagination-item-import", importMapping.get(itemType));
+        } else if (needToImport(itemType)) {
+            operation.getVendorExtensions().put("x-pagination-item-import", toModelImport(itemType));
+        }
+        operation.getVendorExtensions().put("x-pagination-items", pageItems);
+        operation.getVendorExtensions().put("x-pagination-first", first);
+        operation.getVendorExtensions().put("x-pagination-next", nextToken);
+        // the parameters of the templates are copies, per content type
+        tokenParameter.getVendorExtensions().put("x-pagination-token", tokenConverter);
+        for (CodegenContent content : operation.getContents()) {
+            final CodegenParameter contentParameter = findParameter(content.getParameters(), param);
+            if (contentParameter != null) {
+                contentParameter.getVendorExtensions().put("x-pagination-token", tokenConverter);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Switches binary responses and binary body parameters of the operation to InputStream, read from and written
+     * to the connection by the ApiClient. Streamed responses are flagged with x-streaming-response, to also generate
+     * a method copying the response body into an OutputStream.
+     *
+     * @param operation the operation
+     */
+    protected void prepareBinaryStreaming(CodegenOperation operation) {
+        if (isBinaryType(operation.returnType)) {
+            operation.returnType = "InputStream";
+            operation.returnBaseType = "InputStream";
+            operation.getVendorExtensions().put("x-streaming-response", true);
+        }
+        final List<CodegenParameter> parameters = new ArrayList<>();
+        if (operation.allParams != null) {
+            parameters.addAll(operation.allParams);
+        }
+        if (operation.bodyParams != null) {
+            parameters.addAll(operation.bodyParams);
+        }
+        if (operation.bodyParam != null) {
+            parameters.add(operation.bodyParam);
+        }
+        // the parameters of the templates are copies, per content type
+        if (operation.getContents() != null) {
+            for (CodegenContent content : operation.getContents()) {
+                if (content.getParameters() != null) {
+                    parameters.addAll(content.getParameters());
+                }
+            }
+        }
+        for (CodegenParameter parameter : parameters) {
+            if (getBooleanValue(parameter, CodegenConstants.IS_BODY_PARAM_EXT_NAME) && isBinaryType(parameter.dataType)) {
+                parameter.dataType = "InputStream";
+                parameter.baseType = "InputStream";
+            }
+        }
+    }
+
+    private static boolean isBinaryType(String type) {
+        return "File".equals(type) || "byte[]".equals(type);
+    }
+
+    private boolean supportsPagination() {
+        final String library = getLibrary();
+        return StringUtils.isEmpty(library) || "okhttp-gson".equals(library) || "jersey1".equals(library)
+                || "jersey2".equals(library) || "jersey3".equals(library) || "resteasy".equals(library)
+                || "resttemplate".equals(library) || NATIVE.equals(library);
+    }
+
+    private static CodegenProperty findProperty(CodegenModel codegenModel, String baseName) {
+        final List<CodegenProperty> properties = codegenModel.allVars == null || codegenModel.allVars.isEmpty() ? codegenModel.vars : codegenModel.allVars;
+        for (CodegenProperty codegenProperty : properties) {
+            if (baseName.equals(codegenProperty.baseName)) {
+                return codegenProperty;
+            }
+        }
+        return null;
+    }
+
+    private static void addOperationImport(List<Map<String, String>> imports, String _import) {
+        for (Map<String, String> existing : imports) {
+            if (_import.equals(existing.get("import"))) {
+                return;
+            }
+        }
+        final Map<String, String> item = new HashMap<>();
+        item.put("import", _import);
+        imports.add(item);
+    }
+
+    private static CodegenParameter findParameter(List<CodegenParameter> parameters, String baseName) {
+        if (parameters == null) {
+            return null;
+        }
+        for (CodegenParameter parameter : parameters) {
+            if (baseName.equals(parameter.baseName)) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+
+    private boolean supportsGsonTypeAdapter(CodegenModel codegenModel) {
+        if (!isPlainModel(codegenModel)) {
+            return false;
+        }
+        if (codegenModel.parent == null) {
+            return true;
+        }
+        // parents outside of the models (or closing a cycle) have no adapter to delegate their properties to
+        return codegenModel.parentModel != null && supportsGsonTypeAdapter(codegenModel.parentModel);
+    }
+
+    /**
+     * Flags the models getting a generated Jackson serializer and deserializer and sets what they need as vendor
+     * extensions: the serializers of the parent and how to read and write simple properties directly.
+     * <p>
+     * Models taking part in polymorphic type handling (a discriminator in their hierarchy, or an interface model)
+     * keep the annotation driven serialization, so their type ids are still handled by Jackson.
+     *
+     * @param allModels all models
+     * @return the models getting serializers, as classname entries for JacksonModelModule
+     */
+    protected List<Map<String, Object>> prepareJacksonSerializers(Collection<CodegenModel> allModels) {
+        final List<Map<String, Object>> serializerModels = new ArrayList<>();
+        for (CodegenModel codegenModel : allModels) {
+            if (!supportsJacksonSerializers(codegenModel)) {
+                continue;
+            }
+            codegenModel.getVendorExtensions().put("x-jackson-serializers", Boolean.TRUE);
+            if (codegenModel.parentModel != null) {
+                codegenModel.getVendorExtensions().put("x-jackson-parent-serializers", codegenModel.parentModel.classname);
+            }
+            for (CodegenProperty codegenProperty : codegenModel.vars) {
+                final String[] readWrite = JACKSON_PROPERTY_READERS_AND_WRITERS.get(codegenProperty.datatypeWithEnum);
+                if (readWrite != null) {
+                    codegenProperty.getVendorExtensions().put("x-jackson-read", readWrite[0]);
+                    codegenProperty.getVendorExtensions().put("x-jackson-write", readWrite[1]);
+                }
+            }
+            final Map<String, Object> serializerModel = new HashMap<>();
+            serializerModel.put("classname", codegenModel.classname);
+            serializerModels.add(serializerModel);
+        }
+        return serializerModels;
+    }
+
+    private boolean supportsJacksonSerializers(CodegenModel codegenModel) {
+        if (!isPlainModel(codegenModel) || codegenModel.discriminator != null
+                || (codegenModel.interfaceModels != null && !codegenModel.interfaceModels.isEmpty())) {
+            return false;
+        }
+        if (codegenModel.parent == null) {
+            return true;
+        }
+        return codegenModel.parentModel != null && supportsJacksonSerializers(codegenModel.parentModel);
+    }
+
+    /**
+     * @return true for models generated as plain classes with properties, as opposed to enums, array or map
+     * models, aliases and composed model interfaces
+     */
+    private boolean isPlainModel(CodegenModel codegenModel) {
+        return !(getBooleanValue(codegenModel, IS_ENUM_EXT_NAME) || getBooleanValue(codegenModel, IS_ARRAY_MODEL_EXT_NAME)
+                || getBooleanValue(codegenModel, IS_MAP_CONTAINER_EXT_NAME) || getBooleanValue(codegenModel, IS_ALIAS_EXT_NAME)
+                || codegenModel.getIsComposedModel());
+    }
+
+    private List<Map<String, Object>> gsonSubtypes(CodegenModel codegenModel, Collection<CodegenModel> allModels) {
+        final Map<String, String> classnameByValue = new LinkedHashMap<>();
+        if (codegenModel.children != null) {
+            for (CodegenModel child : codegenModel.children) {
+                final Object value = child.getVendorExtensions().get("x-discriminator-value");
+                classnameByValue.put(value != null ? value.toString() : child.name, child.classname);
+            }
+        }
+        if (codegenModel.discriminator.getMapping() != null) {
+            for (Map.Entry<String, String> mapping : codegenModel.discriminator.getMapping().entrySet()) {
+                final String name = OpenAPIUtil.getSimpleRef(mapping.getValue());
+                for (CodegenModel model : allModels) {
+                    if (name.equals(model.name) || name.equals(model.classname)) {
+                        classnameByValue.put(mapping.getKey(), model.classname);
+                        break;
+                    }
+                }
+            }
+        }
+        // instances are created with the simple class name as discriminator value
+        classnameByValue.putIfAbsent(codegenModel.classname, codegenModel.classname);
+
+        final List<Map<String, Object>> subtypes = new ArrayList<>();
+        for (Map.Entry<String, String> entry : classnameByValue.entrySet()) {
+            final Map<String, Object> subtype = new HashMap<>();
+            subtype.put("value", entry.getKey());
+            subtype.put("classname", entry.getValue());
+            subtypes.add(subtype);
+        }
+        return subtypes;
     }
 
     @Override
@@ -604,6 +1112,34 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         this.useGzipFeature = useGzipFeature;
     }
 
+    public void setBufferResponseBody(boolean bufferResponseBody) {
+        this.bufferResponseBody = bufferResponseBody;
+    }
+
+    public void setGsonTypeAdapters(boolean gsonTypeAdapters) {
+        this.gsonTypeAdapters = gsonTypeAdapters;
+    }
+
+    public void setJacksonSerializers(boolean jacksonSerializers) {
+        this.jacksonSerializers = jacksonSerializers;
+    }
+
+    public void setPooledConnections(boolean pooledConnections) {
+        this.pooledConnections = pooledConnections;
+    }
+
+    public void setStreamBinaryBodies(boolean streamBinaryBodies) {
+        this.streamBinaryBodies = streamBinaryBodies;
+    }
+
+    public void setResponseCache(boolean responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public void setApiMetrics(boolean apiMetrics) {
+        this.apiMetrics = apiMetrics;
+    }
+
     public void setUseRuntimeException(boolean useRuntimeException) {
         this.useRuntimeException = useRuntimeException;
     }
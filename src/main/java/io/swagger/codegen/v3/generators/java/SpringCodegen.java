@@ -885,17 +885,7 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> allProcessedModels = super.postProcessAllModels(objs);
 
-        List<Object> allModels = new ArrayList<Object>();
-        for (String name: allProcessedModels.keySet()) {
-            Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
-            try {
-                allModels.add(((List<Object>) models.get("models")).get(0));
-            } catch (Exception e){
-                e.printStackTrace();
-            }
-        }
-
-        additionalProperties.put("parent", modelInheritanceSupport(allModels));
+        additionalProperties.put("parent", modelInheritanceSupport(getModelRegistry().getModelEntries()));
 
         return allProcessedModels;
     }
@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.info.Info;
@@ -49,6 +50,27 @@ import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public class JavaScriptClientCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+            Arrays.asList(
+                    "abstract", "arguments", "boolean", "break", "byte",
+                    "case", "catch", "char", "class", "const",
+                    "continue", "debugger", "default", "delete", "do",
+                    "double", "else", "enum", "eval", "export",
+                    "extends", "false", "final", "finally", "float",
+                    "for", "function", "goto", "if", "implements",
+                    "import", "in", "instanceof", "int", "interface",
+                    "let", "long", "native", "new", "null",
+                    "package", "private", "protected", "public", "return",
+                    "short", "static", "super", "switch", "synchronized",
+                    "this", "throw", "throws", "transient", "true",
+                    "try", "typeof", "var", "void", "volatile",
+                    "while", "with", "yield",
+                    "Array", "Date", "eval", "function", "hasOwnProperty",
+                    "Infinity", "isFinite", "isNaN", "isPrototypeOf",
+                    "Math", "NaN", "Number", "Object",
+                    "prototype", "String", "toString", "undefined", "valueOf")
+    );
+
     @SuppressWarnings("hiding")
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaScriptClientCodegen.class);
 
@@ -131,26 +153,7 @@ public class JavaScriptClientCodegen extends DefaultCodegenConfig {
         hideGenerationTimestamp = Boolean.TRUE;
 
         // reference: http://www.w3schools.com/js/js_reserved.asp
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        "abstract", "arguments", "boolean", "break", "byte",
-                        "case", "catch", "char", "class", "const",
-                        "continue", "debugger", "default", "delete", "do",
-                        "double", "else", "enum", "eval", "export",
-                        "extends", "false", "final", "finally", "float",
-                        "for", "function", "goto", "if", "implements",
-                        "import", "in", "instanceof", "int", "interface",
-                        "let", "long", "native", "new", "null",
-                        "package", "private", "protected", "public", "return",
-                        "short", "static", "super", "switch", "synchronized",
-                        "this", "throw", "throws", "transient", "true",
-                        "try", "typeof", "var", "void", "volatile",
-                        "while", "with", "yield",
-                        "Array", "Date", "eval", "function", "hasOwnProperty",
-                        "Infinity", "isFinite", "isNaN", "isPrototypeOf",
-                        "Math", "NaN", "Number", "Object",
-                        "prototype", "String", "toString", "undefined", "valueOf")
-        );
+        setReservedWords(RESERVED_WORDS);
 
         languageSpecificPrimitives = new HashSet<String>(
                 Arrays.asList("String", "Boolean", "Number", "Array", "Object", "Date", "File", "Blob")
@@ -11,6 +11,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import io.swagger.codegen.v3.generators.OperationParameters;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -30,6 +31,15 @@ import java.util.*;
 import java.util.Map.Entry;
 
 public class NodeJSServerCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+            Arrays.asList(
+                    "break", "case", "class", "catch", "const", "continue", "debugger",
+                    "default", "delete", "do", "else", "export", "extends", "finally",
+                    "for", "function", "if", "import", "in", "instanceof", "let", "new",
+                    "return", "super", "switch", "this", "throw", "try", "typeof", "var",
+                    "void", "while", "with", "yield")
+    );
+
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeJSServerCodegen.class);
     protected String implFolder = "service";
     public static final String GOOGLE_CLOUD_FUNCTIONS = "googleCloudFunctions";
@@ -70,14 +80,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
         /*
          * Reserved words.  Override this with reserved words specific to your language
          */
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        "break", "case", "class", "catch", "const", "continue", "debugger",
-                        "default", "delete", "do", "else", "export", "extends", "finally",
-                        "for", "function", "if", "import", "in", "instanceof", "let", "new",
-                        "return", "super", "switch", "this", "throw", "try", "typeof", "var",
-                        "void", "while", "with", "yield")
-        );
+        setReservedWords(RESERVED_WORDS);
 
         /*
          * Additional Properties.  These values can be passed to the templates and
@@ -321,7 +324,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
 
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        this.openAPI = openAPI;
+        super.preprocessOpenAPI(openAPI);
         URL url = URLPathUtil.getServerURL(openAPI);
         String host = URLPathUtil.LOCAL_HOST;
         String port = "8080";
@@ -0,0 +1,710 @@
+package io.swagger.codegen.v3.generators.openapi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reduces the size of a spec for consumers which only need to parse it: moves structurally identical inline
+ * schemas into shared components, removes components which can not be reached from the paths and optionally
+ * strips descriptions and examples.
+ * <p>
+ * The spec given to {@link #bundle(OpenAPI)} is left untouched, the bundled spec is a copy of it.
+ */
+public class OpenAPIBundler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenAPIBundler.class);
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+    private static final String SCHEMAS = "schemas";
+    private static final String RESPONSES = "responses";
+    private static final String PARAMETERS = "parameters";
+    private static final String EXAMPLES = "examples";
+    private static final String REQUEST_BODIES = "requestBodies";
+    private static final String HEADERS = "headers";
+    private static final String LINKS = "links";
+    private static final String CALLBACKS = "callbacks";
+    private static final String DEFAULT_INLINE_SCHEMA_NAME = "InlineSchema";
+
+    private boolean pruneComponents = true;
+    private boolean deduplicateSchemas = true;
+    private boolean stripDocumentation = false;
+
+    public OpenAPIBundler pruneComponents(boolean pruneComponents) {
+        this.pruneComponents = pruneComponents;
+        return this;
+    }
+
+    public OpenAPIBundler deduplicateSchemas(boolean deduplicateSchemas) {
+        this.deduplicateSchemas = deduplicateSchemas;
+        return this;
+    }
+
+    public OpenAPIBundler stripDocumentation(boolean stripDocumentation) {
+        this.stripDocumentation = stripDocumentation;
+        return this;
+    }
+
+    public OpenAPI bundle(OpenAPI spec) {
+        if (spec == null) {
+            return null;
+        }
+        final OpenAPI openAPI;
+        try {
+            openAPI = copy(spec);
+        } catch (IOException e) {
+            LOGGER.error("can not copy spec, it will not be bundled", e);
+            return spec;
+        }
+        // strip first, so that schemas only differing in their documentation are deduplicated as well
+        if (stripDocumentation) {
+            stripDocumentation(openAPI);
+        }
+        if (deduplicateSchemas) {
+            deduplicateInlineSchemas(openAPI);
+        }
+        if (pruneComponents) {
+            pruneUnreachableComponents(openAPI);
+        }
+        return openAPI;
+    }
+
+    private static OpenAPI copy(OpenAPI openAPI) throws IOException {
+        return Json.mapper().readValue(Json.mapper().writeValueAsBytes(openAPI), OpenAPI.class);
+    }
+
+    // ---- documentation
+
+    protected void stripDocumentation(OpenAPI openAPI) {
+        if (openAPI.getTags() != null) {
+            for (Tag tag : openAPI.getTags()) {
+                tag.setDescription(null);
+                tag.setExternalDocs(null);
+            }
+        }
+        final Components components = openAPI.getComponents();
+        if (components != null) {
+            components.setExamples(null);
+            if (components.getRequestBodies() != null) {
+                for (RequestBody requestBody : components.getRequestBodies().values()) {
+                    requestBody.setDescription(null);
+                }
+            }
+        }
+        forEachOperation(openAPI, operation -> {
+            operation.setDescription(null);
+            operation.setExternalDocs(null);
+            if (operation.getRequestBody() != null) {
+                operation.getRequestBody().setDescription(null);
+            }
+        });
+        new SchemaSlots(openAPI) {
+            @Override
+            protected void visitParameter(Parameter parameter) {
+                parameter.setDescription(null);
+                parameter.setExample(null);
+                parameter.setExamples(null);
+                super.visitParameter(parameter);
+            }
+
+            @Override
+            protected void visitHeader(Header header) {
+                header.setDescription(null);
+                header.setExample(null);
+                header.setExamples(null);
+                super.visitHeader(header);
+            }
+
+            @Override
+            protected void visitMediaType(MediaType mediaType) {
+                mediaType.setExample(null);
+                mediaType.setExampleSetFlag(false);
+                mediaType.setExamples(null);
+                super.visitMediaType(mediaType);
+            }
+        }.rewrite(schema -> {
+            schema.setDescription(null);
+            schema.setExample(null);
+            schema.setExampleSetFlag(false);
+            schema.setExternalDocs(null);
+            return schema;
+        });
+    }
+
+    // ---- inline schema deduplication
+
+    protected void deduplicateInlineSchemas(OpenAPI openAPI) {
+        if (openAPI.getComponents() == null) {
+            openAPI.setComponents(new Components());
+        }
+        if (openAPI.getComponents().getSchemas() == null) {
+            openAPI.getComponents().setSchemas(new LinkedHashMap<>());
+        }
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+
+        // components extracted in one round may still contain shared schemas, repeat until nothing changes
+        boolean changed = true;
+        while (changed) {
+            final Map<String, String> componentBySignature = new HashMap<>();
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                final String signature = signature(entry.getValue());
+                if (signature != null && !componentBySignature.containsKey(signature)) {
+                    componentBySignature.put(signature, entry.getKey());
+                }
+            }
+
+            final Map<String, Integer> occurrences = new HashMap<>();
+            new SchemaSlots(openAPI).rewrite(schema -> {
+                final String signature = inlineSignature(schema);
+                if (signature != null) {
+                    occurrences.merge(signature, 1, Integer::sum);
+                }
+                return schema;
+            });
+
+            final int componentCount = schemas.size();
+            final int[] replaced = new int[1];
+            new SchemaSlots(openAPI).rewrite(schema -> {
+                final String signature = inlineSignature(schema);
+                if (signature == null) {
+                    return schema;
+                }
+                String name = componentBySignature.get(signature);
+                if (name == null) {
+                    if (occurrences.getOrDefault(signature, 0) < 2) {
+                        return schema;
+                    }
+                    name = uniqueComponentName(schema.getTitle(), schemas);
+                    schemas.put(name, schema);
+                    componentBySignature.put(signature, name);
+                }
+                replaced[0]++;
+                return new Schema().$ref(COMPONENTS_PREFIX + SCHEMAS + "/" + name);
+            });
+            if (replaced[0] > 0) {
+                LOGGER.debug("replaced {} inline schemas with references to {} new components", replaced[0], schemas.size() - componentCount);
+            }
+            changed = replaced[0] > 0;
+        }
+    }
+
+    private String inlineSignature(Schema schema) {
+        if (schema.get$ref() != null) {
+            return null;
+        }
+        final boolean hasProperties = schema.getProperties() != null && !schema.getProperties().isEmpty();
+        if (!hasProperties && !(schema instanceof ComposedSchema)) {
+            return null;
+        }
+        return signature(schema);
+    }
+
+    private String signature(Schema schema) {
+        try {
+            return Json.mapper().writeValueAsString(schema);
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("can not serialize schema, it will not be deduplicated", e);
+            return null;
+        }
+    }
+
+    private String uniqueComponentName(String title, Map<String, Schema> schemas) {
+        String base = StringUtils.isNotBlank(title) ? title.replaceAll("[^A-Za-z0-9_]", "_") : DEFAULT_INLINE_SCHEMA_NAME;
+        String name = base;
+        int counter = 1;
+        while (schemas.containsKey(name)) {
+            name = base + "_" + counter++;
+        }
+        return name;
+    }
+
+    // ---- reachability
+
+    protected void pruneUnreachableComponents(OpenAPI openAPI) {
+        final Components components = openAPI.getComponents();
+        if (components == null) {
+            return;
+        }
+        final ReferenceCollector collector = new ReferenceCollector(components);
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                collector.visitPathItem(pathItem);
+            }
+        }
+        if (openAPI.getWebhooks() != null) {
+            for (PathItem pathItem : openAPI.getWebhooks().values()) {
+                collector.visitPathItem(pathItem);
+            }
+        }
+        collector.drain();
+        collector.addDiscriminatorSubtypes();
+
+        final Set<String> reachable = collector.reachable;
+        int removed = prune(components.getSchemas(), SCHEMAS, reachable)
+                + prune(components.getResponses(), RESPONSES, reachable)
+                + prune(components.getParameters(), PARAMETERS, reachable)
+                + prune(components.getExamples(), EXAMPLES, reachable)
+                + prune(components.getRequestBodies(), REQUEST_BODIES, reachable)
+                + prune(components.getHeaders(), HEADERS, reachable)
+                + prune(components.getLinks(), LINKS, reachable)
+                + prune(components.getCallbacks(), CALLBACKS, reachable);
+        LOGGER.debug("removed {} unreachable components", removed);
+    }
+
+    private static int prune(Map<String, ?> componentMap, String type, Set<String> reachable) {
+        if (componentMap == null) {
+            return 0;
+        }
+        final int size = componentMap.size();
+        componentMap.keySet().removeIf(name -> !reachable.contains(COMPONENTS_PREFIX + type + "/" + name));
+        return size - componentMap.size();
+    }
+
+    private static void forEachOperation(OpenAPI openAPI, Consumer<Operation> consumer) {
+        if (openAPI.getPaths() == null) {
+            return;
+        }
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            for (Operation operation : pathItem.readOperations()) {
+                consumer.accept(operation);
+            }
+        }
+    }
+
+    /**
+     * Walks all places of a spec holding a schema and lets a function replace the schema, top down: once a schema
+     * is replaced its children are not visited. Component schemas themselves are never replaced, only their
+     * children.
+     */
+    private static class SchemaSlots {
+
+        private final OpenAPI openAPI;
+        private UnaryOperator<Schema> function;
+        private Set<Object> visited;
+
+        SchemaSlots(OpenAPI openAPI) {
+            this.openAPI = openAPI;
+        }
+
+        void rewrite(UnaryOperator<Schema> function) {
+            this.function = function;
+            this.visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            final Components components = openAPI.getComponents();
+            if (components != null) {
+                if (components.getSchemas() != null) {
+                    // copy, functions may add new components while walking
+                    for (Schema schema : new ArrayList<>(components.getSchemas().values())) {
+                        if (visited.add(schema)) {
+                            visitChildren(schema);
+                        }
+                    }
+                }
+                if (components.getParameters() != null) {
+                    components.getParameters().values().forEach(this::visitParameter);
+                }
+                if (components.getHeaders() != null) {
+                    components.getHeaders().values().forEach(this::visitHeader);
+                }
+                if (components.getRequestBodies() != null) {
+                    components.getRequestBodies().values().forEach(this::visitRequestBody);
+                }
+                if (components.getResponses() != null) {
+                    components.getResponses().values().forEach(this::visitResponse);
+                }
+                if (components.getCallbacks() != null) {
+                    components.getCallbacks().values().forEach(this::visitCallback);
+                }
+            }
+            if (openAPI.getPaths() != null) {
+                openAPI.getPaths().values().forEach(this::visitPathItem);
+            }
+            if (openAPI.getWebhooks() != null) {
+                openAPI.getWebhooks().values().forEach(this::visitPathItem);
+            }
+        }
+
+        protected void visitPathItem(PathItem pathItem) {
+            if (pathItem.getParameters() != null) {
+                pathItem.getParameters().forEach(this::visitParameter);
+            }
+            for (Operation operation : pathItem.readOperations()) {
+                if (operation.getParameters() != null) {
+                    operation.getParameters().forEach(this::visitParameter);
+                }
+                if (operation.getRequestBody() != null) {
+                    visitRequestBody(operation.getRequestBody());
+                }
+                if (operation.getResponses() != null) {
+                    operation.getResponses().values().forEach(this::visitResponse);
+                }
+                if (operation.getCallbacks() != null) {
+                    operation.getCallbacks().values().forEach(this::visitCallback);
+                }
+            }
+        }
+
+        protected void visitCallback(Callback callback) {
+            callback.values().forEach(this::visitPathItem);
+        }
+
+        protected void visitParameter(Parameter parameter) {
+            parameter.setSchema(visit(parameter.getSchema()));
+            visitContent(parameter.getContent());
+        }
+
+        protected void visitHeader(Header header) {
+            header.setSchema(visit(header.getSchema()));
+            visitContent(header.getContent());
+        }
+
+        protected void visitRequestBody(RequestBody requestBody) {
+            visitContent(requestBody.getContent());
+        }
+
+        protected void visitResponse(ApiResponse response) {
+            if (response.getHeaders() != null) {
+                response.getHeaders().values().forEach(this::visitHeader);
+            }
+            visitContent(response.getContent());
+        }
+
+        protected void visitContent(Content content) {
+            if (content != null) {
+                content.values().forEach(this::visitMediaType);
+            }
+        }
+
+        protected void visitMediaType(MediaType mediaType) {
+            mediaType.setSchema(visit(mediaType.getSchema()));
+            if (mediaType.getEncoding() != null) {
+                for (Encoding encoding : mediaType.getEncoding().values()) {
+                    if (encoding.getHeaders() != null) {
+                        encoding.getHeaders().values().forEach(this::visitHeader);
+                    }
+                }
+            }
+        }
+
+        private Schema visit(Schema schema) {
+            if (schema == null || !visited.add(schema)) {
+                return schema;
+            }
+            final Schema result = function.apply(schema);
+            if (result != schema) {
+                return result;
+            }
+            visitChildren(schema);
+            return schema;
+        }
+
+        private void visitChildren(Schema schema) {
+            if (schema.getProperties() != null) {
+                final Map<String, Schema> properties = schema.getProperties();
+                for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                    entry.setValue(visit(entry.getValue()));
+                }
+            }
+            if (schema instanceof ArraySchema) {
+                final ArraySchema arraySchema = (ArraySchema) schema;
+                arraySchema.setItems(visit(arraySchema.getItems()));
+            }
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                schema.setAdditionalProperties(visit((Schema) schema.getAdditionalProperties()));
+            }
+            if (schema.getNot() != null) {
+                schema.setNot(visit(schema.getNot()));
+            }
+            if (schema instanceof ComposedSchema) {
+                final ComposedSchema composedSchema = (ComposedSchema) schema;
+                visitAll(composedSchema.getAllOf());
+                visitAll(composedSchema.getAnyOf());
+                visitAll(composedSchema.getOneOf());
+            }
+        }
+
+        private void visitAll(List<Schema> schemas) {
+            if (schemas != null) {
+                schemas.replaceAll(this::visit);
+            }
+        }
+    }
+
+    /**
+     * Collects the transitive closure of components referenced from the paths.
+     */
+    private static class ReferenceCollector {
+
+        private final Components components;
+        private final Set<String> reachable = new HashSet<>();
+        private final Deque<String> pending = new ArrayDeque<>();
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        ReferenceCollector(Components components) {
+            this.components = components;
+        }
+
+        void drain() {
+            while (!pending.isEmpty()) {
+                final String ref = pending.pop();
+                final String type = StringUtils.substringBefore(ref.substring(COMPONENTS_PREFIX.length()), "/");
+                final String name = StringUtils.substringAfter(ref.substring(COMPONENTS_PREFIX.length()), "/");
+                visitComponent(type, name);
+            }
+        }
+
+        /**
+         * Subtypes of a reachable schema with a discriminator are reachable through the discriminator value, even
+         * if nothing references them.
+         */
+        void addDiscriminatorSubtypes() {
+            final Map<String, Schema> schemas = components.getSchemas();
+            if (schemas == null) {
+                return;
+            }
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                    final String ref = COMPONENTS_PREFIX + SCHEMAS + "/" + entry.getKey();
+                    if (reachable.contains(ref) || !(entry.getValue() instanceof ComposedSchema)) {
+                        continue;
+                    }
+                    final List<Schema> allOf = ((ComposedSchema) entry.getValue()).getAllOf();
+                    if (allOf == null) {
+                        continue;
+                    }
+                    for (Schema parent : allOf) {
+                        if (parent.get$ref() != null && reachable.contains(parent.get$ref()) && hasDiscriminator(parent.get$ref())) {
+                            addRef(ref);
+                            changed = true;
+                            break;
+                        }
+                    }
+                }
+                drain();
+            }
+        }
+
+        private boolean hasDiscriminator(String ref) {
+            final Schema schema = components.getSchemas().get(StringUtils.substringAfterLast(ref, "/"));
+            return schema != null && schema.getDiscriminator() != null;
+        }
+
+        private void addRef(String ref) {
+            if (ref != null && ref.startsWith(COMPONENTS_PREFIX) && reachable.add(ref)) {
+                pending.push(ref);
+            }
+        }
+
+        private void visitComponent(String type, String name) {
+            switch (type) {
+                case SCHEMAS:
+                    visitSchema(get(components.getSchemas(), name));
+                    break;
+                case RESPONSES:
+                    visitResponse(get(components.getResponses(), name));
+                    break;
+                case PARAMETERS:
+                    visitParameter(get(components.getParameters(), name));
+                    break;
+                case EXAMPLES:
+                    final Example example = get(components.getExamples(), name);
+                    if (example != null) {
+                        addRef(example.get$ref());
+                    }
+                    break;
+                case REQUEST_BODIES:
+                    visitRequestBody(get(components.getRequestBodies(), name));
+                    break;
+                case HEADERS:
+                    visitHeader(get(components.getHeaders(), name));
+                    break;
+                case LINKS:
+                    final Link link = get(components.getLinks(), name);
+                    if (link != null) {
+                        addRef(link.get$ref());
+                    }
+                    break;
+                case CALLBACKS:
+                    visitCallback(get(components.getCallbacks(), name));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private static <T> T get(Map<String, T> componentMap, String name) {
+            return componentMap == null ? null : componentMap.get(name);
+        }
+
+        void visitPathItem(PathItem pathItem) {
+            if (pathItem == null) {
+                return;
+            }
+            if (pathItem.getParameters() != null) {
+                pathItem.getParameters().forEach(this::visitParameter);
+            }
+            for (Operation operation : pathItem.readOperations()) {
+                if (operation.getParameters() != null) {
+                    operation.getParameters().forEach(this::visitParameter);
+                }
+                visitRequestBody(operation.getRequestBody());
+                if (operation.getResponses() != null) {
+                    operation.getResponses().values().forEach(this::visitResponse);
+                }
+                if (operation.getCallbacks() != null) {
+                    operation.getCallbacks().values().forEach(this::visitCallback);
+                }
+            }
+        }
+
+        private void visitCallback(Callback callback) {
+            if (callback == null) {
+                return;
+            }
+            addRef(callback.get$ref());
+            callback.values().forEach(this::visitPathItem);
+        }
+
+        private void visitParameter(Parameter parameter) {
+            if (parameter == null) {
+                return;
+            }
+            addRef(parameter.get$ref());
+            visitSchema(parameter.getSchema());
+            visitContent(parameter.getContent());
+            visitExamples(parameter.getExamples());
+        }
+
+        private void visitHeader(Header header) {
+            if (header == null) {
+                return;
+            }
+            addRef(header.get$ref());
+            visitSchema(header.getSchema());
+            visitContent(header.getContent());
+            visitExamples(header.getExamples());
+        }
+
+        private void visitRequestBody(RequestBody requestBody) {
+            if (requestBody == null) {
+                return;
+            }
+            addRef(requestBody.get$ref());
+            visitContent(requestBody.getContent());
+        }
+
+        private void visitResponse(ApiResponse response) {
+            if (response == null) {
+                return;
+            }
+            addRef(response.get$ref());
+            if (response.getHeaders() != null) {
+                response.getHeaders().values().forEach(this::visitHeader);
+            }
+            if (response.getLinks() != null) {
+                for (Link link : response.getLinks().values()) {
+                    addRef(link.get$ref());
+                }
+            }
+            visitContent(response.getContent());
+        }
+
+        private void visitContent(Content content) {
+            if (content == null) {
+                return;
+            }
+            for (MediaType mediaType : content.values()) {
+                visitSchema(mediaType.getSchema());
+                visitExamples(mediaType.getExamples());
+                if (mediaType.getEncoding() != null) {
+                    for (Encoding encoding : mediaType.getEncoding().values()) {
+                        if (encoding.getHeaders() != null) {
+                            encoding.getHeaders().values().forEach(this::visitHeader);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void visitExamples(Map<String, Example> examples) {
+            if (examples != null) {
+                for (Example example : examples.values()) {
+                    addRef(example.get$ref());
+                }
+            }
+        }
+
+        private void visitSchema(Schema schema) {
+            if (schema == null || !visited.add(schema)) {
+                return;
+            }
+            addRef(schema.get$ref());
+            if (schema.getProperties() != null) {
+                for (Object property : schema.getProperties().values()) {
+                    visitSchema((Schema) property);
+                }
+            }
+            if (schema instanceof ArraySchema) {
+                visitSchema(((ArraySchema) schema).getItems());
+            }
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                visitSchema((Schema) schema.getAdditionalProperties());
+            }
+            visitSchema(schema.getNot());
+            if (schema instanceof ComposedSchema) {
+                final ComposedSchema composedSchema = (ComposedSchema) schema;
+                visitSchemas(composedSchema.getAllOf());
+                visitSchemas(composedSchema.getAnyOf());
+                visitSchemas(composedSchema.getOneOf());
+            }
+            if (schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+                for (String mapping : schema.getDiscriminator().getMapping().values()) {
+                    // mapping values are either references or plain schema names
+                    addRef(mapping.startsWith(COMPONENTS_PREFIX) ? mapping : COMPONENTS_PREFIX + SCHEMAS + "/" + mapping);
+                }
+            }
+        }
+
+        private void visitSchemas(List<Schema> schemas) {
+            if (schemas != null) {
+                schemas.forEach(this::visitSchema);
+            }
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package io.swagger.codegen.v3.generators.openapi;
 
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
-import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
+import io.swagger.codegen.v3.generators.handlebars.StreamingHandlebarTemplateEngine;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
 
 public class OpenAPIGenerator extends DefaultCodegenConfig {
 
@@ -20,12 +28,23 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
 
     public static final String OUTPUT_NAME = "outputFile";
     public static final String FLATTEN_SPEC = "flattenSpec";
+    public static final String PRETTY_PRINT = "prettyPrint";
+    public static final String GZIP_OUTPUT = "gzipOutput";
+    public static final String BUNDLE_SPEC = "bundleSpec";
+    public static final String STRIP_DOCUMENTATION = "stripDocumentation";
 
     public static final String OPENAPI_FILENAME_DEFAULT_JSON = "openapi.json";
+    public static final String GZIP_EXTENSION = ".gz";
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 
     private String outputFile = OPENAPI_FILENAME_DEFAULT_JSON;
 
     protected boolean flattenSpec = true;
+    protected boolean prettyPrint = true;
+    protected boolean gzipOutput = false;
+    protected boolean bundleSpec = false;
+    protected boolean stripDocumentation = false;
 
     public OpenAPIGenerator() {
         super();
@@ -40,6 +59,22 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
             "boolean")
             .defaultValue(Boolean.TRUE.toString()));
 
+        cliOptions.add(CliOption.newBoolean(PRETTY_PRINT,
+            "indent the generated spec, set to false for compact output")
+            .defaultValue(Boolean.TRUE.toString()));
+
+        cliOptions.add(CliOption.newBoolean(GZIP_OUTPUT,
+            "gzip the generated spec and append " + GZIP_EXTENSION + " to the output filename")
+            .defaultValue(Boolean.FALSE.toString()));
+
+        cliOptions.add(CliOption.newBoolean(BUNDLE_SPEC,
+            "remove components not reachable from the paths and move identical inline schemas to shared components")
+            .defaultValue(Boolean.FALSE.toString()));
+
+        cliOptions.add(CliOption.newBoolean(STRIP_DOCUMENTATION,
+            "remove descriptions and examples from the generated spec")
+            .defaultValue(Boolean.FALSE.toString()));
+
         supportingFiles.add(new SupportingFile("README.md", "", "README.md"));
     }
 
@@ -65,22 +100,60 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
         super.preprocessOpenAPI(openAPI);
-        final String outputString;
-        if (flattenSpec) {
-            outputString = Json.pretty(openAPI);
-        } else {
-            outputString = Json.pretty(this.unflattenedOpenAPI);
+        OpenAPI spec = flattenSpec ? openAPI : this.unflattenedOpenAPI;
+        if (bundleSpec || stripDocumentation) {
+            // the bundler works on a copy, the generator keeps using the flattened spec
+            spec = new OpenAPIBundler()
+                .pruneComponents(bundleSpec)
+                .deduplicateSchemas(bundleSpec)
+                .stripDocumentation(stripDocumentation)
+                .bundle(spec);
         }
-
         try {
-            String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), outputString);
-            LOGGER.debug("wrote file to " + outputFile);
+            final Path outputPath = writeSpec(spec);
+            LOGGER.debug("wrote file to " + outputPath);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
     }
 
+    /**
+     * Serializes the spec straight into the output file through the streaming generator of the mapper returned
+     * by {@link #getObjectMapper()}, so the document is never materialized as a string.
+     *
+     * @param spec the spec to write
+     * @return the path of the written file
+     * @throws IOException if the file can not be written
+     */
+    protected Path writeSpec(OpenAPI spec) throws IOException {
+        String filename = getOutputFile();
+        if (gzipOutput && !filename.endsWith(GZIP_EXTENSION)) {
+            filename = filename + GZIP_EXTENSION;
+        }
+        final Path outputPath = Paths.get(outputFolder, filename);
+        if (outputPath.getParent() != null) {
+            Files.createDirectories(outputPath.getParent());
+        }
+        final ObjectMapper mapper = getObjectMapper();
+        final ObjectWriter writer = prettyPrint ? mapper.writer(new DefaultPrettyPrinter()) : mapper.writer();
+        try (OutputStream out = openOutputStream(outputPath)) {
+            writer.writeValue(out, spec);
+        }
+        return outputPath;
+    }
+
+    protected OutputStream openOutputStream(Path outputPath) throws IOException {
+        final OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputPath), OUTPUT_BUFFER_SIZE);
+        if (gzipOutput) {
+            return new GZIPOutputStream(out, OUTPUT_BUFFER_SIZE);
+        }
+        return out;
+    }
+
+    protected ObjectMapper getObjectMapper() {
+        return Json.mapper();
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -98,12 +171,44 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
         ) {
             this.flattenSpec = Boolean.valueOf(additionalProperties.get(FLATTEN_SPEC).toString());
         }
+
+        if (additionalProperties.containsKey(PRETTY_PRINT)) {
+            this.prettyPrint = convertPropertyToBoolean(PRETTY_PRINT);
+        }
+
+        if (additionalProperties.containsKey(GZIP_OUTPUT)) {
+            this.gzipOutput = convertPropertyToBoolean(GZIP_OUTPUT);
+        }
+
+        if (additionalProperties.containsKey(BUNDLE_SPEC)) {
+            this.bundleSpec = convertPropertyToBoolean(BUNDLE_SPEC);
+        }
+
+        if (additionalProperties.containsKey(STRIP_DOCUMENTATION)) {
+            this.stripDocumentation = convertPropertyToBoolean(STRIP_DOCUMENTATION);
+        }
     }
 
     public void setOutputFile(String outputFile) {
         this.outputFile = outputFile;
     }
 
+    public void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+    }
+
+    public void setGzipOutput(boolean gzipOutput) {
+        this.gzipOutput = gzipOutput;
+    }
+
+    public void setBundleSpec(boolean bundleSpec) {
+        this.bundleSpec = bundleSpec;
+    }
+
+    public void setStripDocumentation(boolean stripDocumentation) {
+        this.stripDocumentation = stripDocumentation;
+    }
+
     @Override
     public String escapeQuotationMark(String input) {
         // just return the original string
@@ -128,7 +233,7 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
 
     @Override
     protected void setTemplateEngine() {
-        templateEngine = new HandlebarTemplateEngine(this);
+        templateEngine = new StreamingHandlebarTemplateEngine(this);
     }
 
     @Override
@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 
 import java.io.File;
 import java.util.Arrays;
@@ -25,6 +26,16 @@ import org.slf4j.LoggerFactory;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+            Arrays.asList(
+                // local variables used in api methods (endpoints)
+                "resourcePath", "httpBody", "queryParams", "headerParams",
+                "formParams", "_header_accept", "_tempBody",
+
+                // PHP reserved words
+                "__halt_compiler", "abstract", "and", "array", "as", "break", "callable", "case", "catch", "class", "clone", "const", "continue", "declare", "default", "die", "do", "echo", "else", "elseif", "empty", "enddeclare", "endfor", "endforeach", "endif", "endswitch", "endwhile", "eval", "exit", "extends", "final", "for", "foreach", "function", "global", "goto", "if", "implements", "include", "include_once", "instanceof", "insteadof", "interface", "isset", "list", "namespace", "new", "or", "print", "private", "protected", "public", "require", "require_once", "return", "static", "switch", "throw", "trait", "try", "unset", "use", "var", "while", "xor")
+    );
+
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractPhpCodegen.class);
 
     public static final String VARIABLE_NAMING_CONVENTION = "variableNamingConvention";
@@ -59,15 +70,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         apiPackage = invokerPackage + "\\" + apiDirName;
         modelPackage = invokerPackage + "\\" + modelDirName;
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                    // local variables used in api methods (endpoints)
-                    "resourcePath", "httpBody", "queryParams", "headerParams",
-                    "formParams", "_header_accept", "_tempBody",
-
-                    // PHP reserved words
-                    "__halt_compiler", "abstract", "and", "array", "as", "break", "callable", "case", "catch", "class", "clone", "const", "continue", "declare", "default", "die", "do", "echo", "else", "elseif", "empty", "enddeclare", "endfor", "endforeach", "endif", "endswitch", "endwhile", "eval", "exit", "extends", "final", "for", "foreach", "function", "global", "goto", "if", "implements", "include", "include_once", "instanceof", "insteadof", "interface", "isset", "list", "namespace", "new", "or", "print", "private", "protected", "public", "require", "require_once", "return", "static", "switch", "throw", "trait", "try", "unset", "use", "var", "while", "xor")
-        );
+        setReservedWords(RESERVED_WORDS);
 
         // ref: http://php.net/manual/en/language.types.intro.php
         languageSpecificPrimitives = new HashSet<String>(
@@ -90,7 +93,6 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         instantiationTypes.put("array", "array");
         instantiationTypes.put("map", "map");
 
-
         // provide primitives to mustache template
         String primitives = "'" + StringUtils.join(languageSpecificPrimitives, "', '") + "'";
         additionalProperties.put("primitives", primitives);
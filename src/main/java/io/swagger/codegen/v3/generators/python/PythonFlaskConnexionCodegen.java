@@ -14,6 +14,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -39,6 +40,16 @@ import org.slf4j.LoggerFactory;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+            Arrays.asList(
+                    // @property
+                    "property",
+                    // python reserved words
+                    "and", "del", "from", "not", "while", "as", "elif", "global", "or", "with",
+                    "assert", "else", "if", "pass", "yield", "break", "except", "import",
+                    "print", "class", "exec", "in", "raise", "continue", "finally", "is",
+                    "return", "def", "for", "lambda", "try", "self", "None", "True", "False", "nonlocal",
+                    "float", "int", "str", "date", "datetime", "False", "await", "async"));
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonFlaskConnexionCodegen.class);
 
@@ -94,16 +105,7 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
         typeMapping.put("ByteArray", "bytearray");
 
         // from https://docs.python.org/3/reference/lexical_analysis.html#keywords
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // @property
-                        "property",
-                        // python reserved words
-                        "and", "del", "from", "not", "while", "as", "elif", "global", "or", "with",
-                        "assert", "else", "if", "pass", "yield", "break", "except", "import",
-                        "print", "class", "exec", "in", "raise", "continue", "finally", "is",
-                        "return", "def", "for", "lambda", "try", "self", "None", "True", "False", "nonlocal",
-                        "float", "int", "str", "date", "datetime", "False", "await", "async"));
+        setReservedWords(RESERVED_WORDS);
 
         // set the output folder here
         outputFolder = "generated-code/connexion";
@@ -777,9 +779,7 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
     }
 
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
-        Map<String, CodegenModel> allModels = new HashMap<>();
         for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
-            String modelName = toModelName(entry.getKey());
             Map<String, Object> inner = (Map<String, Object>) entry.getValue();
             List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
             List<Map<String, String>> imports = (List<Map<String, String>>) inner.get("imports");
@@ -797,11 +797,9 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
                         imports.add(item);
                     }
                 }
-
-                allModels.put(modelName, codegenModel);
             }
         }
-        postProcessAllCodegenModels(allModels);
+        postProcessAllCodegenModels(buildModelRegistry(processedModels).getModelsByName());
         return processedModels;
     }
 
@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 
 import java.io.File;
 import java.util.Arrays;
@@ -25,6 +26,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class RClientCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+        Arrays.asList(
+            // reserved words: https://stat.ethz.ch/R-manual/R-devel/library/base/html/Reserved.html
+            "if", "else", "repeat", "while", "function", "for", "in",
+            "next", "break", "TRUE", "FALSE", "NULL", "Inf", "NaN",
+            "NA", "NA_integer_", "NA_real_", "NA_complex_", "NA_character_"
+        )
+    );
+
     static Logger LOGGER = LoggerFactory.getLogger(RClientCodegen.class);
 
     protected String packageName = "swagger";
@@ -56,14 +66,7 @@ public class RClientCodegen extends DefaultCodegenConfig {
         // default HIDE_GENERATION_TIMESTAMP to true
         hideGenerationTimestamp = Boolean.TRUE;
 
-        setReservedWordsLowerCase(
-            Arrays.asList(
-                // reserved words: https://stat.ethz.ch/R-manual/R-devel/library/base/html/Reserved.html
-                "if", "else", "repeat", "while", "function", "for", "in",
-                "next", "break", "TRUE", "FALSE", "NULL", "Inf", "NaN",
-                "NA", "NA_integer_", "NA_real_", "NA_complex_", "NA_character_"
-            )
-        );
+        setReservedWords(RESERVED_WORDS);
 
         defaultIncludes = new HashSet<String>(
             Arrays.asList(
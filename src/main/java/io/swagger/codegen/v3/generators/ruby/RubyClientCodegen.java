@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -26,6 +27,19 @@ import java.util.Arrays;
 import java.util.Map;
 
 public class RubyClientCodegen extends DefaultCodegenConfig {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+            Arrays.asList(
+                    // local variable names used in API methods (endpoints)
+                    "local_var_path", "query_params", "header_params", "_header_accept", "_header_accept_result",
+                    "_header_content_type", "form_params", "post_body", "auth_names",
+                    // ruby reserved keywords
+                    "__FILE__", "and", "def", "end", "in", "or", "self", "unless", "__LINE__",
+                    "begin", "defined?", "ensure", "module", "redo", "super", "until", "BEGIN",
+                    "break", "do", "false", "next", "rescue", "then", "when", "END", "case",
+                    "else", "for", "nil", "retry", "true", "while", "alias", "class", "elsif",
+                    "if", "not", "return", "undef", "yield")
+    );
+
     private static final Logger LOGGER = LoggerFactory.getLogger(RubyClientCodegen.class);
 
     public static final String GEM_NAME = "gemName";
@@ -70,18 +84,7 @@ public class RubyClientCodegen extends DefaultCodegenConfig {
         // default HIDE_GENERATION_TIMESTAMP to true
         hideGenerationTimestamp = Boolean.TRUE;
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // local variable names used in API methods (endpoints)
-                        "local_var_path", "query_params", "header_params", "_header_accept", "_header_accept_result",
-                        "_header_content_type", "form_params", "post_body", "auth_names",
-                        // ruby reserved keywords
-                        "__FILE__", "and", "def", "end", "in", "or", "self", "unless", "__LINE__",
-                        "begin", "defined?", "ensure", "module", "redo", "super", "until", "BEGIN",
-                        "break", "do", "false", "next", "rescue", "then", "when", "END", "case",
-                        "else", "for", "nil", "retry", "true", "while", "alias", "class", "elsif",
-                        "if", "not", "return", "undef", "yield")
-        );
+        setReservedWords(RESERVED_WORDS);
 
         typeMapping.clear();
         languageSpecificPrimitives.clear();
@@ -5,6 +5,7 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +15,19 @@ import java.util.Arrays;
 import java.util.HashMap;
 
 public class ScalaClientCodegen extends AbstractScalaCodegen {
+    private static final ReservedWords RESERVED_WORDS = ReservedWords.lowerCaseOf(
+            Arrays.asList(
+                    // local variable names used in API methods (endpoints)
+                    "path", "contentTypes", "contentType", "queryParams", "headerParams",
+                    "formParams", "postBody", "mp", "basePath", "apiInvoker",
+
+                    // scala reserved words
+                    "abstract", "case", "catch", "class", "def", "do", "else", "extends",
+                    "false", "final", "finally", "for", "forSome", "if", "implicit",
+                    "import", "lazy", "match", "new", "null", "object", "override", "package",
+                    "private", "protected", "return", "sealed", "super", "this", "throw",
+                    "trait", "try", "true", "type", "val", "var", "while", "with", "yield")
+    );
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScalaClientCodegen.class);
 
@@ -35,19 +49,7 @@ public class ScalaClientCodegen extends AbstractScalaCodegen {
         apiPackage = "io.swagger.client.api";
         modelPackage = "io.swagger.client.model";
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // local variable names used in API methods (endpoints)
-                        "path", "contentTypes", "contentType", "queryParams", "headerParams",
-                        "formParams", "postBody", "mp", "basePath", "apiInvoker",
-
-                        // scala reserved words
-                        "abstract", "case", "catch", "class", "def", "do", "else", "extends",
-                        "false", "final", "finally", "for", "forSome", "if", "implicit",
-                        "import", "lazy", "match", "new", "null", "object", "override", "package",
-                        "private", "protected", "return", "sealed", "super", "this", "throw",
-                        "trait", "try", "true", "type", "val", "var", "while", "with", "yield")
-        );
+        setReservedWords(RESERVED_WORDS);
 
         additionalProperties.put(CodegenConstants.INVOKER_PACKAGE, invokerPackage);
         additionalProperties.put(CodegenConstants.GROUP_ID, groupId);
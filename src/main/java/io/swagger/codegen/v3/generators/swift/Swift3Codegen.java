@@ -3,11 +3,11 @@ package io.swagger.codegen.v3.generators.swift;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.generators.swift.AbstractSwiftCodegen;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 
 public class Swift3Codegen extends AbstractSwiftCodegen {
@@ -15,7 +15,7 @@ public class Swift3Codegen extends AbstractSwiftCodegen {
     public Swift3Codegen() {
         super();
 
-        reservedWords = new HashSet<>(
+        reservedWords = new ReservedWords(
                 Arrays.asList(
                         // name used by swift client
                         "ErrorResponse", "Response",
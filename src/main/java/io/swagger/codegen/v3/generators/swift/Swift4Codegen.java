@@ -6,11 +6,11 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.swift.AbstractSwiftCodegen;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -19,7 +19,7 @@ public class Swift4Codegen extends AbstractSwiftCodegen {
     public Swift4Codegen() {
         super();
 
-        reservedWords = new HashSet<>(
+        reservedWords = new ReservedWords(
                 Arrays.asList(
                         // name used by swift client
                         "ErrorResponse", "Response",
@@ -10,6 +10,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.ReservedWords;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -125,7 +126,7 @@ public class Swift5Codegen extends DefaultCodegenConfig {
                 "AnyObject",
                 "Any")
         );
-        reservedWords = new HashSet<>(
+        reservedWords = new ReservedWords(
             Arrays.asList(
                 // name used by swift client
                 "ErrorResponse", "Response",
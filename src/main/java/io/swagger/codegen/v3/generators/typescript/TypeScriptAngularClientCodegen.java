@@ -498,14 +498,10 @@ public class TypeScriptAngularClientCodegen extends AbstractTypeScriptClientCode
 
     @Override
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
-        for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
-            final Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            final List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> mo : models) {
-                final CodegenModel codegenModel = (CodegenModel) mo.get("model");
-                if (codegenModel.getIsAlias() && codegenModel.imports != null && !codegenModel.imports.isEmpty()) {
-                    mo.put("tsImports", toTsImports(codegenModel, codegenModel.imports));
-                }
+        for (Map<String, Object> mo : buildModelRegistry(processedModels).getModelEntries()) {
+            final CodegenModel codegenModel = (CodegenModel) mo.get("model");
+            if (codegenModel.getIsAlias() && codegenModel.imports != null && !codegenModel.imports.isEmpty()) {
+                mo.put("tsImports", toTsImports(codegenModel, codegenModel.imports));
             }
         }
         return processedModels;
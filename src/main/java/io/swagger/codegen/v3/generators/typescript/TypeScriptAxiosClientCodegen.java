@@ -137,14 +137,10 @@ public class TypeScriptAxiosClientCodegen extends AbstractTypeScriptClientCodege
     @Override
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> result = super.postProcessAllModels(objs);
-        for (Map.Entry<String, Object> entry : result.entrySet()) {
-            Map<String, Object> inner = (Map<String, Object>) entry.getValue();
-            List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
-            for (Map<String, Object> model : models) {
-                CodegenModel codegenModel = (CodegenModel) model.get("model");
-                //todo: model.put("hasAllOf", codegenModel.allOf.size() > 0);
-                //todo: model.put("hasOneOf", codegenModel.oneOf.size() > 0);
-            }
+        for (Map<String, Object> model : getModelRegistry().getModelEntries()) {
+            CodegenModel codegenModel = (CodegenModel) model.get("model");
+            //todo: model.put("hasAllOf", codegenModel.allOf.size() > 0);
+            //todo: model.put("hasOneOf", codegenModel.oneOf.size() > 0);
         }
         return result;
     }
@@ -0,0 +1,148 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inheritance and interface graph over a set of models, computed once so that whole-model passes can query
+ * parents, interfaces and discriminator boundaries in constant time.
+ * <p>
+ * Parent and interface names are resolved against the given model map. Parent cycles are detected and broken:
+ * the edge closing the cycle is ignored (and logged), so every query terminates.
+ */
+public class InheritanceGraph {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InheritanceGraph.class);
+
+    private static final int UNVISITED = 0;
+    private static final int VISITING = 1;
+    private static final int VISITED = 2;
+
+    private final Map<CodegenModel, Node> nodes = new IdentityHashMap<>();
+    private final List<CodegenModel> topologicalOrder = new ArrayList<>();
+
+    private static class Node {
+        private CodegenModel parent;
+        private List<CodegenModel> interfaces = Collections.emptyList();
+        private List<CodegenModel> boundedAncestors;
+        private int state = UNVISITED;
+    }
+
+    /**
+     * @param allModels models by model name, as passed to {@code postProcessAllCodegenModels}
+     */
+    public InheritanceGraph(Map<String, CodegenModel> allModels) {
+        for (CodegenModel codegenModel : allModels.values()) {
+            if (codegenModel != null) {
+                nodes.put(codegenModel, new Node());
+            }
+        }
+        for (Map.Entry<CodegenModel, Node> entry : nodes.entrySet()) {
+            final CodegenModel codegenModel = entry.getKey();
+            final Node node = entry.getValue();
+            if (codegenModel.parent != null) {
+                node.parent = allModels.get(codegenModel.parent);
+            }
+            if (codegenModel.interfaces != null && !codegenModel.interfaces.isEmpty()) {
+                node.interfaces = new ArrayList<>(codegenModel.interfaces.size());
+                for (String intf : codegenModel.interfaces) {
+                    final CodegenModel intfModel = allModels.get(intf);
+                    if (intfModel != null) {
+                        node.interfaces.add(intfModel);
+                    }
+                }
+            }
+        }
+        // visiting in map order keeps siblings in processing order
+        for (CodegenModel codegenModel : allModels.values()) {
+            if (codegenModel != null) {
+                visit(codegenModel);
+            }
+        }
+    }
+
+    private void visit(CodegenModel codegenModel) {
+        // iterative walk up the parent chain, deep hierarchies must not exhaust the stack
+        final List<CodegenModel> chain = new ArrayList<>();
+        CodegenModel current = codegenModel;
+        while (current != null) {
+            final Node node = nodes.get(current);
+            if (node == null || node.state == VISITED) {
+                break;
+            }
+            if (node.state == VISITING) {
+                // current is already on the chain: the edge leading back to it closes a cycle
+                final CodegenModel last = chain.get(chain.size() - 1);
+                LOGGER.warn("Inheritance cycle detected, ignoring parent " + current.name + " of model " + last.name);
+                nodes.get(last).parent = null;
+                break;
+            }
+            node.state = VISITING;
+            chain.add(current);
+            current = node.parent;
+        }
+        // ancestors first
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            final CodegenModel model = chain.get(i);
+            final Node node = nodes.get(model);
+            final Node parentNode = node.parent == null ? null : nodes.get(node.parent);
+            if (parentNode != null) {
+                // a discriminator on the parent ends the chain of ancestors the model is registered with
+                if (node.parent.discriminator == null && parentNode.boundedAncestors != null) {
+                    node.boundedAncestors = new ArrayList<>(parentNode.boundedAncestors.size() + 1);
+                    node.boundedAncestors.add(node.parent);
+                    node.boundedAncestors.addAll(parentNode.boundedAncestors);
+                } else {
+                    node.boundedAncestors = Collections.singletonList(node.parent);
+                }
+            } else if (node.parent != null) {
+                // parent outside of the graph
+                node.boundedAncestors = Collections.singletonList(node.parent);
+            } else {
+                node.boundedAncestors = Collections.emptyList();
+            }
+            node.state = VISITED;
+            topologicalOrder.add(model);
+        }
+    }
+
+    public boolean contains(CodegenModel codegenModel) {
+        return nodes.containsKey(codegenModel);
+    }
+
+    /**
+     * @return all models, every model after its parent
+     */
+    public List<CodegenModel> getTopologicalOrder() {
+        return Collections.unmodifiableList(topologicalOrder);
+    }
+
+    public CodegenModel getParent(CodegenModel codegenModel) {
+        final Node node = nodes.get(codegenModel);
+        return node == null ? null : node.parent;
+    }
+
+    public List<CodegenModel> getInterfaces(CodegenModel codegenModel) {
+        final Node node = nodes.get(codegenModel);
+        return node == null ? Collections.<CodegenModel>emptyList() : Collections.unmodifiableList(node.interfaces);
+    }
+
+    /**
+     * Ancestors a model is registered with as a child: its parent, then the parent's parent and so on, up to and
+     * including the first ancestor declaring a discriminator.
+     *
+     * @param codegenModel model of the graph
+     * @return the ancestors, nearest first
+     */
+    public List<CodegenModel> getDiscriminatorBoundedAncestors(CodegenModel codegenModel) {
+        final Node node = nodes.get(codegenModel);
+        return node == null ? Collections.<CodegenModel>emptyList() : Collections.unmodifiableList(node.boundedAncestors);
+    }
+}
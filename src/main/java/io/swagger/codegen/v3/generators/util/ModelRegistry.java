@@ -0,0 +1,144 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Index over all processed models, built once after model conversion and shared by the whole-model
+ * post-processing passes.
+ * <p>
+ * Models are indexed by schema name (the keys of the processed models map), by model name (the schema name
+ * passed through {@code toModelName}) and by classname. Direct parent, child and interface edges are resolved
+ * by name when the registry is built, so lookups during post-processing are constant time.
+ * Iteration follows the order of the processed models map.
+ */
+public class ModelRegistry {
+
+    private final Map<String, CodegenModel> bySchemaName = new LinkedHashMap<>();
+    private final Map<String, CodegenModel> byModelName = new LinkedHashMap<>();
+    private final Map<String, CodegenModel> byClassname = new HashMap<>();
+    private final List<Map<String, Object>> modelEntries = new ArrayList<>();
+    private final Map<String, List<CodegenModel>> childrenByParent = new HashMap<>();
+    private final Map<String, List<CodegenModel>> implementationsByInterface = new HashMap<>();
+
+    /**
+     * @param processedModels processed models, as passed to {@code postProcessAllModels}
+     * @param toModelName naming function of the generator
+     */
+    @SuppressWarnings("unchecked")
+    public ModelRegistry(Map<String, Object> processedModels, Function<String, String> toModelName) {
+        for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
+            final String modelName = toModelName.apply(entry.getKey());
+            final Map<String, Object> inner = (Map<String, Object>) entry.getValue();
+            final List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
+            if (models == null) {
+                continue;
+            }
+            for (Map<String, Object> mo : models) {
+                final CodegenModel codegenModel = (CodegenModel) mo.get("model");
+                if (codegenModel == null) {
+                    continue;
+                }
+                modelEntries.add(mo);
+                bySchemaName.put(entry.getKey(), codegenModel);
+                byModelName.put(modelName, codegenModel);
+                if (codegenModel.classname != null) {
+                    byClassname.put(codegenModel.classname, codegenModel);
+                }
+            }
+        }
+        for (CodegenModel codegenModel : byModelName.values()) {
+            if (codegenModel.parent != null) {
+                childrenByParent.computeIfAbsent(codegenModel.parent, k -> new ArrayList<>()).add(codegenModel);
+            }
+            if (codegenModel.interfaces != null) {
+                for (String intf : codegenModel.interfaces) {
+                    implementationsByInterface.computeIfAbsent(intf, k -> new ArrayList<>()).add(codegenModel);
+                }
+            }
+        }
+    }
+
+    public CodegenModel getBySchemaName(String schemaName) {
+        return bySchemaName.get(schemaName);
+    }
+
+    public CodegenModel getByModelName(String modelName) {
+        return byModelName.get(modelName);
+    }
+
+    public CodegenModel getByClassname(String classname) {
+        return byClassname.get(classname);
+    }
+
+    /**
+     * @return models by schema name, in processing order
+     */
+    public Map<String, CodegenModel> getModelsBySchemaName() {
+        return Collections.unmodifiableMap(bySchemaName);
+    }
+
+    /**
+     * @return models by model name, in processing order
+     */
+    public Map<String, CodegenModel> getModelsByName() {
+        return Collections.unmodifiableMap(byModelName);
+    }
+
+    public Collection<CodegenModel> getModels() {
+        return Collections.unmodifiableCollection(byModelName.values());
+    }
+
+    /**
+     * @return the template entries ({@code {"model": CodegenModel, ...}}) of all models, in processing order
+     */
+    public List<Map<String, Object>> getModelEntries() {
+        return Collections.unmodifiableList(modelEntries);
+    }
+
+    public CodegenModel getParent(CodegenModel codegenModel) {
+        return codegenModel.parent == null ? null : byModelName.get(codegenModel.parent);
+    }
+
+    /**
+     * @return models declaring the given model name as their direct parent
+     */
+    public List<CodegenModel> getChildren(String modelName) {
+        final List<CodegenModel> children = childrenByParent.get(modelName);
+        return children == null ? Collections.<CodegenModel>emptyList() : Collections.unmodifiableList(children);
+    }
+
+    public List<CodegenModel> getInterfaces(CodegenModel codegenModel) {
+        if (codegenModel.interfaces == null || codegenModel.interfaces.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<CodegenModel> interfaces = new ArrayList<>(codegenModel.interfaces.size());
+        for (String intf : codegenModel.interfaces) {
+            final CodegenModel intfModel = byModelName.get(intf);
+            if (intfModel != null) {
+                interfaces.add(intfModel);
+            }
+        }
+        return interfaces;
+    }
+
+    /**
+     * @return models listing the given model name among their interfaces
+     */
+    public List<CodegenModel> getImplementations(String modelName) {
+        final List<CodegenModel> implementations = implementationsByInterface.get(modelName);
+        return implementations == null ? Collections.<CodegenModel>emptyList() : Collections.unmodifiableList(implementations);
+    }
+
+    public int size() {
+        return byModelName.size();
+    }
+}
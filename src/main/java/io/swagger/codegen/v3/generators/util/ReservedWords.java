@@ -0,0 +1,216 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set of reserved words that, in addition to the regular (case sensitive) {@link Set} contract, answers
+ * "is the lower-cased form of this word reserved" without allocating a lower-cased copy of the word.
+ * <p>
+ * Words are kept in a regular hash set; a case-folded open addressing index over the lower case entries is
+ * built lazily on first lookup and rebuilt only after the set is modified, so generators populating their
+ * reserved words in the constructor pay for the index once. The index is published through a volatile field,
+ * so a set shared between generator instances (see {@link #lowerCaseOf(Collection)}) can be copied and looked up
+ * from any thread once it is no longer modified.
+ */
+public class ReservedWords extends AbstractSet<String> {
+
+    private final Set<String> words = new HashSet<>();
+    private volatile String[] index;
+
+    public ReservedWords() {
+    }
+
+    public ReservedWords(Collection<String> words) {
+        this.words.addAll(words);
+    }
+
+    /**
+     * Copies the given set, sharing its lookup index until either set is modified.
+     *
+     * @param reservedWords words to copy
+     */
+    public ReservedWords(ReservedWords reservedWords) {
+        this.words.addAll(reservedWords.words);
+        // indexes are replaced, never modified, on changes
+        this.index = reservedWords.getIndex();
+    }
+
+    /**
+     * @param words reserved words, in any case
+     * @return a set of the lower case form of the words
+     */
+    public static ReservedWords lowerCaseOf(Collection<String> words) {
+        final ReservedWords reservedWords = new ReservedWords();
+        for (String word : words) {
+            reservedWords.words.add(word.toLowerCase());
+        }
+        // built before the set is shared, so copies never race on building it
+        reservedWords.index = reservedWords.buildIndex();
+        return reservedWords;
+    }
+
+    /**
+     * Checks whether the lower case form of the given word is reserved, that is
+     * {@code contains(word.toLowerCase())}, without creating the lower case string.
+     *
+     * @param word the word to look up
+     * @return true if the lower case form of the word is reserved
+     */
+    public boolean containsLowerCase(CharSequence word) {
+        if (word == null) {
+            return false;
+        }
+        final String[] index = getIndex();
+        final int mask = index.length - 1;
+        int slot = foldedHash(word) & mask;
+        String candidate;
+        while ((candidate = index[slot]) != null) {
+            if (matchesLowerCase(candidate, word)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Case insensitive lookup for any reserved word set, using the allocation free path when the set is a
+     * {@link ReservedWords} instance.
+     *
+     * @param reservedWords reserved words of a generator
+     * @param word the word to look up
+     * @return true if the lower case form of the word is reserved
+     */
+    public static boolean containsLowerCase(Set<String> reservedWords, String word) {
+        if (word == null || reservedWords == null) {
+            return false;
+        }
+        if (reservedWords instanceof ReservedWords) {
+            return ((ReservedWords) reservedWords).containsLowerCase(word);
+        }
+        return reservedWords.contains(word.toLowerCase());
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return words.contains(o);
+    }
+
+    @Override
+    public boolean add(String word) {
+        if (words.add(word)) {
+            index = null;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (words.remove(o)) {
+            index = null;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        words.clear();
+        index = null;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        final Iterator<String> iterator = words.iterator();
+        return new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                index = null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return words.size();
+    }
+
+    private String[] getIndex() {
+        String[] current = index;
+        if (current == null) {
+            current = buildIndex();
+            index = current;
+        }
+        return current;
+    }
+
+    private String[] buildIndex() {
+        // keep the load factor at or below 0.5 so probe sequences stay short
+        int capacity = 8;
+        while (capacity < words.size() * 2) {
+            capacity <<= 1;
+        }
+        final String[] table = new String[capacity];
+        final int mask = capacity - 1;
+        for (String word : words) {
+            // only lower case entries can ever equal a lower-cased lookup
+            if (word == null || !isLowerCase(word)) {
+                continue;
+            }
+            int slot = foldedHash(word) & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = word;
+        }
+        return table;
+    }
+
+    private static int foldedHash(CharSequence word) {
+        int hash = 0;
+        for (int i = 0; i < word.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(word.charAt(i));
+        }
+        // spread high bits, the table is indexed by the low ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matchesLowerCase(String candidate, CharSequence word) {
+        final int length = candidate.length();
+        if (length != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != Character.toLowerCase(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLowerCase(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            final char c = word.charAt(i);
+            if (c != Character.toLowerCase(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
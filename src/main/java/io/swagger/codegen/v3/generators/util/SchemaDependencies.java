@@ -0,0 +1,247 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reference graph over {@code components.schemas}, used to find the schemas a subset of the operations depends on.
+ * <p>
+ * A schema depends on every schema it references through its properties, items, additional properties,
+ * allOf/oneOf/anyOf/not members and discriminator mapping. A schema declaring a discriminator also depends on the
+ * schemas extending it through allOf, since they are the concrete types its payloads are read into.
+ */
+public class SchemaDependencies {
+
+    private static final String SCHEMAS_REF = "#/components/schemas/";
+
+    private final OpenAPI openAPI;
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+
+    public SchemaDependencies(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+        final Map<String, Schema> schemas = getSchemas();
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final Set<String> refs = new LinkedHashSet<>();
+            collectRefs(entry.getValue(), refs, Collections.newSetFromMap(new IdentityHashMap<>()));
+            dependencies.put(entry.getKey(), refs);
+        }
+        // discriminator parents depend on their subtypes
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final Schema schema = entry.getValue();
+            if (!(schema instanceof ComposedSchema) || ((ComposedSchema) schema).getAllOf() == null) {
+                continue;
+            }
+            for (Schema allOf : ((ComposedSchema) schema).getAllOf()) {
+                final String parentName = schemaName(allOf.get$ref());
+                final Schema parent = parentName == null ? null : schemas.get(parentName);
+                if (parent != null && parent.getDiscriminator() != null) {
+                    dependencies.get(parentName).add(entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * @param schemaName name of a component schema
+     * @return names of the schemas it directly depends on
+     */
+    public Set<String> getDependencies(String schemaName) {
+        final Set<String> refs = dependencies.get(schemaName);
+        return refs == null ? Collections.<String>emptySet() : Collections.unmodifiableSet(refs);
+    }
+
+    /**
+     * @param roots names of component schemas
+     * @return the roots and every schema they transitively depend on, in discovery order
+     */
+    public Set<String> getClosure(Collection<String> roots) {
+        final Set<String> closure = new LinkedHashSet<>();
+        final Deque<String> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            final String name = queue.poll();
+            if (!dependencies.containsKey(name) || !closure.add(name)) {
+                continue;
+            }
+            queue.addAll(dependencies.get(name));
+        }
+        return closure;
+    }
+
+    /**
+     * @return names of the component schemas the operation references directly, through its parameters, request
+     * body, responses and the operations of its callbacks (component parameters, request bodies, responses, headers
+     * and callbacks are followed)
+     */
+    public Set<String> getOperationRefs(Operation operation) {
+        final Set<String> refs = new LinkedHashSet<>();
+        collectRefs(operation, refs, Collections.newSetFromMap(new IdentityHashMap<>()),
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        return refs;
+    }
+
+    private void collectRefs(Operation operation, Set<String> refs, Set<Schema> visited, Set<Operation> visitedOperations) {
+        if (operation == null || !visitedOperations.add(operation)) {
+            return;
+        }
+        final Components components = openAPI.getComponents();
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (StringUtils.isNotBlank(parameter.get$ref()) && components != null && components.getParameters() != null) {
+                    parameter = components.getParameters().get(OpenAPIUtil.getSimpleRef(parameter.get$ref()));
+                }
+                if (parameter != null) {
+                    collectRefs(parameter.getSchema(), refs, visited);
+                    collectRefs(parameter.getContent(), refs, visited);
+                }
+            }
+        }
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && StringUtils.isNotBlank(requestBody.get$ref()) && components != null && components.getRequestBodies() != null) {
+            requestBody = components.getRequestBodies().get(OpenAPIUtil.getSimpleRef(requestBody.get$ref()));
+        }
+        if (requestBody != null) {
+            collectRefs(requestBody.getContent(), refs, visited);
+        }
+        if (operation.getResponses() != null) {
+            for (ApiResponse response : operation.getResponses().values()) {
+                if (StringUtils.isNotBlank(response.get$ref()) && components != null && components.getResponses() != null) {
+                    response = components.getResponses().get(OpenAPIUtil.getSimpleRef(response.get$ref()));
+                }
+                if (response == null) {
+                    continue;
+                }
+                collectRefs(response.getContent(), refs, visited);
+                if (response.getHeaders() != null) {
+                    for (Header header : response.getHeaders().values()) {
+                        if (StringUtils.isNotBlank(header.get$ref()) && components != null && components.getHeaders() != null) {
+                            header = components.getHeaders().get(OpenAPIUtil.getSimpleRef(header.get$ref()));
+                        }
+                        if (header != null) {
+                            collectRefs(header.getSchema(), refs, visited);
+                            collectRefs(header.getContent(), refs, visited);
+                        }
+                    }
+                }
+            }
+        }
+        if (operation.getCallbacks() != null) {
+            for (Callback callback : operation.getCallbacks().values()) {
+                if (callback != null && StringUtils.isNotBlank(callback.get$ref()) && components != null && components.getCallbacks() != null) {
+                    callback = components.getCallbacks().get(OpenAPIUtil.getSimpleRef(callback.get$ref()));
+                }
+                if (callback == null) {
+                    continue;
+                }
+                for (PathItem pathItem : callback.values()) {
+                    if (pathItem == null) {
+                        continue;
+                    }
+                    for (Operation callbackOperation : pathItem.readOperations()) {
+                        collectRefs(callbackOperation, refs, visited, visitedOperations);
+                    }
+                }
+            }
+        }
+    }
+
+    private void collectRefs(Content content, Set<String> refs, Set<Schema> visited) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            if (mediaType != null) {
+                collectRefs(mediaType.getSchema(), refs, visited);
+            }
+        }
+    }
+
+    private void collectRefs(Schema schema, Set<String> refs, Set<Schema> visited) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        final String refName = schemaName(schema.get$ref());
+        if (refName != null) {
+            // the referenced schema is a node of its own
+            refs.add(refName);
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Object property : schema.getProperties().values()) {
+                collectRefs((Schema) property, refs, visited);
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            collectRefs(((ArraySchema) schema).getItems(), refs, visited);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectRefs((Schema) schema.getAdditionalProperties(), refs, visited);
+        }
+        if (schema.getNot() != null) {
+            collectRefs(schema.getNot(), refs, visited);
+        }
+        if (schema instanceof ComposedSchema) {
+            final ComposedSchema composedSchema = (ComposedSchema) schema;
+            collectRefs(composedSchema.getAllOf(), refs, visited);
+            collectRefs(composedSchema.getOneOf(), refs, visited);
+            collectRefs(composedSchema.getAnyOf(), refs, visited);
+        }
+        if (schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+            for (String mappedRef : schema.getDiscriminator().getMapping().values()) {
+                final String mappedName = schemaName(mappedRef);
+                // mapping values may also be plain schema names
+                refs.add(mappedName != null ? mappedName : mappedRef);
+            }
+        }
+    }
+
+    private void collectRefs(List<Schema> schemas, Set<String> refs, Set<Schema> visited) {
+        if (schemas == null) {
+            return;
+        }
+        for (Schema schema : schemas) {
+            collectRefs(schema, refs, visited);
+        }
+    }
+
+    private Map<String, Schema> getSchemas() {
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return Collections.emptyMap();
+        }
+        return openAPI.getComponents().getSchemas();
+    }
+
+    private static String schemaName(String ref) {
+        if (StringUtils.isBlank(ref)) {
+            return null;
+        }
+        if (ref.startsWith(SCHEMAS_REF)) {
+            return ref.substring(SCHEMAS_REF.length());
+        }
+        // relative refs were resolved by the parser, anything else is not a component schema
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.python.PythonClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CodegenHelperTest {
+
+    @Test
+    public void testTablesAreCopiedPerInstance() {
+        final Map<String, String> typeMappings = CodegenHelper.getTypeMappings();
+        typeMappings.put("string", "CharSequence");
+
+        Assert.assertEquals(CodegenHelper.getTypeMappings().get("string"), "String");
+        Assert.assertNotSame(CodegenHelper.getImportMappings(), CodegenHelper.getImportMappings());
+        Assert.assertTrue(CodegenHelper.getDefaultIncludes().add("Object"));
+        Assert.assertFalse(CodegenHelper.getDefaultIncludes().contains("Object"));
+
+        final Map<String, String> specialCharReplacements = new HashMap<>();
+        CodegenHelper.initalizeSpecialCharacterMapping(specialCharReplacements);
+        Assert.assertEquals(specialCharReplacements.get("$"), "Dollar");
+    }
+
+    @Test
+    public void testReservedWordsAreSharedBetweenInstancesOnly() {
+        final JavaClientCodegen first = new JavaClientCodegen();
+        final JavaClientCodegen second = new JavaClientCodegen();
+        first.reservedWords().add("customword");
+
+        Assert.assertTrue(first.reservedWords().contains("customword"));
+        Assert.assertFalse(second.reservedWords().contains("customword"));
+        Assert.assertTrue(second.reservedWords().contains("class"));
+        // another generator gets its own words
+        Assert.assertFalse(new PythonClientCodegen().reservedWords().contains("synchronized"));
+    }
+}
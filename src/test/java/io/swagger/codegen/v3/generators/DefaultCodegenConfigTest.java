@@ -318,6 +318,34 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(codegen.findCommonPrefixOfVars(vars), expectedPrefix);
     }
 
+    @Test
+    public void testIncludeTagsKeepsReferencedSchemas() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final P_DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.additionalProperties().put(DefaultCodegenConfig.INCLUDE_TAGS, "store");
+        codegen.additionalProperties().put(DefaultCodegenConfig.INCLUDE_OPERATION_IDS, "getUserByName");
+        codegen.preprocessOpenAPI(openAPI);
+
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), new HashSet<>(Arrays.asList("Order", "User")));
+        Assert.assertNull(openAPI.getPaths().get("/pet"));
+        Assert.assertNotNull(openAPI.getPaths().get("/store/order"));
+        final PathItem userPath = openAPI.getPaths().get("/user/{username}");
+        Assert.assertNotNull(userPath.getGet());
+        Assert.assertNull(userPath.getPut());
+        Assert.assertNull(userPath.getDelete());
+    }
+
+    @Test
+    public void testNoFilterKeepsEverything() {
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final int schemas = openAPI.getComponents().getSchemas().size();
+        final int paths = openAPI.getPaths().size();
+        new P_DefaultCodegenConfig().preprocessOpenAPI(openAPI);
+
+        Assert.assertEquals(openAPI.getComponents().getSchemas().size(), schemas);
+        Assert.assertEquals(openAPI.getPaths().size(), paths);
+    }
+
     @DataProvider(name = "testCommonPrefixProvider")
     public Object[][] provideData_testCommonPrefix() {
         return new Object[][]{
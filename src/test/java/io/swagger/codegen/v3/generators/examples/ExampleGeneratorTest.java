@@ -2,6 +2,9 @@ package io.swagger.codegen.v3.generators.examples;
 
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
@@ -11,6 +14,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
@@ -52,4 +56,47 @@ public class ExampleGeneratorTest {
         Assert.assertEquals(example.get("contentType"), "application/json");
         Assert.assertTrue(example.get("example").contains("\"name\" : \"Yinotheria\""));
     }
+
+    @Test
+    public void testNumbersDoNotDependOnTraversalOrder() throws Exception {
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI);
+        final String example = exampleGenerator.generate(null, null, createOrderSchema()).get(0).get("example");
+
+        final ExampleGenerator otherGenerator = new ExampleGenerator(openAPI);
+        final Schema unrelated = new ObjectSchema()
+                .addProperties("weight", new NumberSchema())
+                .addProperties("count", new IntegerSchema());
+        otherGenerator.generate(null, null, unrelated);
+        final String otherExample = otherGenerator.generate(null, null, createOrderSchema()).get(0).get("example");
+
+        Assert.assertEquals(otherExample, example);
+    }
+
+    @Test
+    public void testNumbersStayWithinBounds() throws Exception {
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI);
+        for (int i = 0; i < 20; i++) {
+            final Schema schema = new ObjectSchema()
+                    .addProperties("amount" + i, new NumberSchema().minimum(new BigDecimal(5)).maximum(new BigDecimal(6)));
+            final String example = exampleGenerator.generate(null, null, schema).get(0).get("example");
+            final double amount = Double.parseDouble(example.replaceAll("(?s).*: ([0-9.E-]+).*", "$1"));
+            Assert.assertTrue(amount >= 5 && amount <= 6, example);
+        }
+    }
+
+    @Test
+    public void testSeedDependsOnPathAndPropertyName() {
+        Assert.assertEquals(ExampleGenerator.seed("#/components/schemas/Order", "quantity"),
+                ExampleGenerator.seed("#/components/schemas/Order", "quantity"));
+        Assert.assertNotEquals(ExampleGenerator.seed("#/components/schemas/Order", "quantity"),
+                ExampleGenerator.seed("#/components/schemas/Order", "price"));
+        Assert.assertNotEquals(ExampleGenerator.seed("a/b", "c"), ExampleGenerator.seed("a", "b/c"));
+    }
+
+    private Schema createOrderSchema() {
+        return new ObjectSchema()
+                .name("Order")
+                .addProperties("quantity", new IntegerSchema().minimum(new BigDecimal(1)).maximum(new BigDecimal(100)))
+                .addProperties("price", new NumberSchema());
+    }
 }
@@ -0,0 +1,113 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
+import io.swagger.codegen.v3.generators.GeneratorRunner;
+import io.swagger.codegen.v3.generators.html.StaticHtml2Codegen;
+import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class StreamingHandlebarTemplateEngineTest {
+
+    private static final String TEMPLATE = "search_index.mustache";
+
+    @Test
+    public void testRenderToWriter() throws Exception {
+        final StreamingHandlebarTemplateEngine engine = newEngine();
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("searchIndex", "{}");
+
+        final StringWriter writer = new StringWriter();
+        engine.render(TEMPLATE, data, writer);
+
+        Assert.assertEquals(writer.toString(), engine.getRendered(TEMPLATE, data));
+        Assert.assertTrue(writer.toString().contains("var swaggerDocsSearchIndex = {};"));
+    }
+
+    @Test
+    public void testRenderToFileWritesOnlyChanges() throws Exception {
+        final StreamingHandlebarTemplateEngine engine = newEngine();
+        final File target = new File(GeneratorRunner.getTmpFolder(), "nested/search-index.js");
+
+        Assert.assertTrue(engine.renderToFile(TEMPLATE, Collections.<String, Object>singletonMap("searchIndex", "{}"), target));
+        Assert.assertFalse(engine.renderToFile(TEMPLATE, Collections.<String, Object>singletonMap("searchIndex", "{}"), target));
+        Assert.assertTrue(engine.renderToFile(TEMPLATE, Collections.<String, Object>singletonMap("searchIndex", "[]"), target));
+
+        final String content = new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8);
+        Assert.assertTrue(content.contains("var swaggerDocsSearchIndex = [];"));
+        // no temporary files are left behind
+        Assert.assertEquals(target.getParentFile().list().length, 1);
+    }
+
+    @Test(description = "verify that partials keep the indentation of each call site")
+    public void testPartialIndentation() throws Exception {
+        final File templateDir = new File(GeneratorRunner.getTmpFolder(), "partials");
+        Files.createDirectories(templateDir.toPath());
+        Files.write(new File(templateDir, "line.mustache").toPath(), "x\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(templateDir, "indented.mustache").toPath(), "    {{>line}}\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(templateDir, "flat.mustache").toPath(), "{{>line}}\n".getBytes(StandardCharsets.UTF_8));
+
+        final StaticHtml2Codegen config = new StaticHtml2Codegen();
+        config.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, templateDir.getAbsolutePath());
+        config.processOpts();
+        final StreamingHandlebarTemplateEngine engine = new StreamingHandlebarTemplateEngine(config);
+        final HandlebarTemplateEngine handlebarTemplateEngine = new HandlebarTemplateEngine(config);
+        final Map<String, Object> data = Collections.emptyMap();
+
+        Assert.assertEquals(engine.getRendered("indented.mustache", data), "    x\n");
+        Assert.assertEquals(engine.getRendered("flat.mustache", data), "x\n");
+        Assert.assertEquals(engine.getRendered("flat.mustache", data), handlebarTemplateEngine.getRendered("flat.mustache", data));
+    }
+
+    @Test(description = "verify that generators render through the streaming engine, with the output of the core engine")
+    public void testDefaultEngine() throws Exception {
+        final File output = GeneratorRunner.getTmpFolder();
+        final ClientOptInput input = newInput(output);
+        Assert.assertTrue(input.getConfig().getTemplateEngine() instanceof StreamingHandlebarTemplateEngine);
+        final List<File> files = new DefaultGenerator().opts(input).generate();
+        Assert.assertTrue(input.getConfig().getTemplateEngine() instanceof StreamingHandlebarTemplateEngine);
+
+        final File referenceOutput = GeneratorRunner.getTmpFolder();
+        final ClientOptInput referenceInput = newInput(referenceOutput);
+        final StaticHtml2Codegen reference = new StaticHtml2Codegen() {
+            @Override
+            protected void setTemplateEngine() {
+                templateEngine = new HandlebarTemplateEngine(this);
+            }
+        };
+        reference.setOutputDir(referenceOutput.getAbsolutePath());
+        referenceInput.config(reference);
+        new DefaultGenerator().opts(referenceInput).generate();
+
+        Assert.assertFalse(files.isEmpty());
+        for (File file : files) {
+            final String path = output.toPath().relativize(file.toPath()).toString();
+            Assert.assertEquals(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+                    new String(Files.readAllBytes(new File(referenceOutput, path).toPath()), StandardCharsets.UTF_8), path);
+        }
+    }
+
+    private static ClientOptInput newInput(File output) {
+        return new CodegenConfigurator()
+                .setLang("html2")
+                .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath())
+                .toClientOptInput();
+    }
+
+    private static StreamingHandlebarTemplateEngine newEngine() {
+        final StaticHtml2Codegen config = new StaticHtml2Codegen();
+        config.processOpts();
+        return new StreamingHandlebarTemplateEngine(config);
+    }
+}
@@ -0,0 +1,81 @@
+package io.swagger.codegen.v3.generators.handlebars.java;
+
+import com.github.jknack.handlebars.Context;
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.v3.core.util.Json;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JavaHelperTest {
+
+    private final Handlebars handlebars = new Handlebars().registerHelpers(new JavaHelper());
+
+    @Test
+    public void testCachedClassDefinition() throws Exception {
+        final CodegenModel model = new CodegenModel();
+        model.classname = "Pet";
+        model.parent = "Animal";
+        final Template template = handlebars.compileInline("{{getClassDefinition this}}");
+
+        Assert.assertEquals(template.apply(Context.newBuilder(model).combine(CodegenConstants.SERIALIZABLE_MODEL, Boolean.TRUE).build()),
+            "Pet extends Animal implements Serializable");
+        // each flag set has its own value
+        Assert.assertEquals(template.apply(Context.newBuilder(model).combine(CodegenConstants.SERIALIZABLE_MODEL, Boolean.FALSE).build()),
+            "Pet extends Animal");
+
+        // later renderings of the model reuse the value
+        model.classname = "Renamed";
+        Assert.assertEquals(template.apply(Context.newBuilder(model).combine(CodegenConstants.SERIALIZABLE_MODEL, Boolean.TRUE).build()),
+            "Pet extends Animal implements Serializable");
+        // and its vendor extensions can still be serialized
+        Assert.assertTrue(Json.mapper().writeValueAsString(model.vendorExtensions).contains("Pet extends Animal"));
+    }
+
+    @Test
+    public void testCachedProperty() throws Exception {
+        final CodegenProperty property = new CodegenProperty();
+        property.datatypeWithEnum = "String";
+        property.name = "name";
+        property.baseName = "name";
+        property.defaultValue = "\"doggie\"";
+
+        final JavaHelper helper = new JavaHelper();
+        Assert.assertEquals(helper.getJavaProperty(property, null).toString(), "String name = \"doggie\"");
+        Assert.assertEquals(helper.getJacksonXmlProperty(property).toString(), "localName = \"name\"");
+        property.name = "renamed";
+        Assert.assertEquals(helper.getJavaProperty(property, null).toString(), "String name = \"doggie\"");
+    }
+
+    @Test
+    public void testCachedModelImports() throws Exception {
+        final List<Map<String, String>> imports = new ArrayList<>();
+        imports.add(Collections.singletonMap("import", "java.util.List"));
+        final Map<String, Object> bundle = new HashMap<>();
+        bundle.put("imports", imports);
+        bundle.put("useBeanValidation", "true");
+        final Template template = handlebars.compileInline("{{{getModelImports this}}}");
+
+        Assert.assertEquals(template.apply(bundle), "import java.util.Objects;\n"
+            + "import java.util.List;\n"
+            + "import javax.validation.constraints.*;\n"
+            + "import javax.validation.Valid;\n");
+
+        // the flags are read from the template data on every use, a changed flag is not served from the cache
+        bundle.put("serializableModel", Boolean.TRUE);
+        Assert.assertEquals(template.apply(bundle), "import java.util.Objects;\n"
+            + "import java.util.List;\n"
+            + "import java.io.Serializable;\n"
+            + "import javax.validation.constraints.*;\n"
+            + "import javax.validation.Valid;\n");
+    }
+}
@@ -0,0 +1,58 @@
+package io.swagger.codegen.v3.generators.handlebars.lambda;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Lambda;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class StreamingLambdaTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    public void testIndented() throws Exception {
+        final Lambda lambda = new IndentedLambda(2, " ");
+        Assert.assertEquals(render(lambda, "first" + NL + "second" + NL + NL + "third"), "first" + NL + "  second" + NL + "  " + NL + "  third");
+        // trailing line separators are dropped, as with String.split
+        Assert.assertEquals(render(lambda, "first" + NL + "second" + NL + NL), "first" + NL + "  second");
+        Assert.assertEquals(render(lambda, NL + "first"), NL + "  first");
+        Assert.assertEquals(render(lambda, ""), "");
+    }
+
+    @Test
+    public void testTitlecase() throws Exception {
+        Assert.assertEquals(render(new TitlecaseLambda(), "hello big world"), "Hello Big World");
+        Assert.assertEquals(render(new TitlecaseLambda(), "hello world  "), "Hello World");
+        Assert.assertEquals(render(new TitlecaseLambda("_"), "snake_case_name"), "Snake_Case_Name");
+        Assert.assertEquals(render(new TitlecaseLambda(null), "hello world"), "Hello world");
+    }
+
+    @Test
+    public void testCaseAndEscaping() throws Exception {
+        Assert.assertEquals(render(new LowercaseLambda(), "GET Pets"), "get pets");
+        Assert.assertEquals(render(new UppercaseLambda(), "straße"), "straße".toUpperCase());
+        Assert.assertEquals(render(new CapitaliseLambda(), "PET"), "Pet");
+        Assert.assertEquals(render(new RemoveLineBreakLambda(), "a\r\nb\nc"), "abc");
+        Assert.assertEquals(render(new EscapeDoubleQuotesLambda(), "say \"hi\""), "say \\\"hi\\\"");
+    }
+
+    @Test
+    public void testNestedLambdas() throws Exception {
+        final Map<String, Object> context = new HashMap<>();
+        context.put("indent", new IndentedLambda(2, " "));
+        context.put("uppercase", new UppercaseLambda());
+        final String rendered = new Handlebars()
+            .compileInline("{{#indent}}a" + NL + "{{#uppercase}}b" + NL + "c{{/uppercase}}{{/indent}}")
+            .apply(context);
+        Assert.assertEquals(rendered, "a" + NL + "  B" + NL + "  C");
+    }
+
+    private static String render(Lambda lambda, String fragment) throws Exception {
+        final Map<String, Object> context = new HashMap<>();
+        context.put("lambda", lambda);
+        return new Handlebars().compileInline("{{#lambda}}" + fragment + "{{/lambda}}").apply(context);
+    }
+}
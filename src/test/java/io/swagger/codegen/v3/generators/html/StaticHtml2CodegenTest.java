@@ -0,0 +1,90 @@
+package io.swagger.codegen.v3.generators.html;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class StaticHtml2CodegenTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public void createFolder() throws IOException {
+        folder.create();
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        folder.delete();
+    }
+
+    @Test(description = "api files stay in the default folder unless paginated")
+    public void testApiFileFolder() {
+        final StaticHtml2Codegen codegen = new StaticHtml2Codegen();
+        codegen.setOutputDir("docs");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.apiFileFolder(), "docs" + File.separator + codegen.apiPackage().replace('.', File.separatorChar));
+
+        final StaticHtml2Codegen pagedCodegen = new StaticHtml2Codegen();
+        pagedCodegen.setOutputDir("docs");
+        pagedCodegen.additionalProperties().put(StaticHtml2Codegen.PAGE_PER_TAG, "true");
+        pagedCodegen.processOpts();
+        Assert.assertEquals(pagedCodegen.apiFileFolder(), "docs" + File.separator + "apis");
+    }
+
+    @Test(description = "generate a single page")
+    public void testSinglePageGeneration() throws Exception {
+        final File output = generate(false);
+
+        final String index = FileUtils.readFileToString(new File(output, "index.html"), StandardCharsets.UTF_8);
+        Assert.assertTrue(index.contains("addPet"));
+        Assert.assertTrue(index.contains("getOrderById"));
+        Assert.assertFalse(new File(output, "apis").exists());
+        Assert.assertFalse(new File(output, "search-index.js").exists());
+        Assert.assertFalse(new File(output, "assets").exists());
+    }
+
+    @Test(description = "generate a page per tag")
+    public void testPagePerTagGeneration() throws Exception {
+        final File output = generate(true);
+
+        final File apis = new File(output, "apis");
+        final String petPage = FileUtils.readFileToString(new File(apis, "PetApi.html"), StandardCharsets.UTF_8);
+        Assert.assertTrue(petPage.contains("addPet"));
+        Assert.assertFalse(petPage.contains("getOrderById"));
+        final String storePage = FileUtils.readFileToString(new File(apis, "StoreApi.html"), StandardCharsets.UTF_8);
+        Assert.assertTrue(storePage.contains("getOrderById"));
+        Assert.assertFalse(storePage.contains("addPet"));
+
+        final String searchIndex = FileUtils.readFileToString(new File(output, "search-index.js"), StandardCharsets.UTF_8);
+        Assert.assertTrue(searchIndex.contains("\"PetApi.html\""));
+        Assert.assertTrue(searchIndex.contains("\"addPet\""));
+        Assert.assertTrue(new File(output, "index.html").exists());
+        Assert.assertTrue(new File(output, "models.js").exists());
+        Assert.assertTrue(new File(output, "assets/docs.js").exists());
+        Assert.assertTrue(new File(output, "assets/docs.css").exists());
+    }
+
+    private File generate(boolean pagePerTag) throws IOException {
+        final File output = folder.newFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("html2")
+                .setInputSpecURL("src/test/resources/3_0_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath());
+        configurator.addAdditionalProperty(StaticHtml2Codegen.PAGE_PER_TAG, pagePerTag);
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+        return output;
+    }
+}
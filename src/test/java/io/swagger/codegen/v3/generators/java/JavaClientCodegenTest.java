@@ -1,14 +1,20 @@
 package io.swagger.codegen.v3.generators.java;
 
+import io.swagger.codegen.v3.ClientOptInput;
 import io.swagger.codegen.v3.CodegenConfig;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenContent;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenSchema;
+import io.swagger.codegen.v3.DefaultGenerator;
 import io.swagger.codegen.v3.ISchemaHandler;
+import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.config.CodegenConfigurator;
 import io.swagger.codegen.v3.generators.AbstractCodegenTest;
 import io.swagger.codegen.v3.generators.CodegenWrapper;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
@@ -19,6 +25,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -29,18 +36,43 @@ import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class JavaClientCodegenTest extends AbstractCodegenTest {
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public void createFolder() throws IOException {
+        this.folder.create();
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        this.folder.delete();
+    }
 
     @Test
     public void modelInheritanceSupportInGson() throws Exception {
@@ -234,6 +266,432 @@ public class JavaClientCodegenTest extends AbstractCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.INVOKER_PACKAGE), "xxx.yyyyy.zzzzzzz.iiii.invoker");
     }
 
+    @Test
+    public void testBufferResponseBody() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        Assert.assertFalse(codegen.bufferResponseBody);
+
+        final JavaClientCodegen buffering = new JavaClientCodegen();
+        buffering.additionalProperties().put(JavaClientCodegen.BUFFER_RESPONSE_BODY, "true");
+        buffering.processOpts();
+        Assert.assertTrue(buffering.bufferResponseBody);
+        Assert.assertEquals(buffering.additionalProperties().get(JavaClientCodegen.BUFFER_RESPONSE_BODY), Boolean.TRUE);
+    }
+
+    @Test(description = "verify that the okhttp clients ship a benchmark of buffered and streaming deserialization")
+    public void testBufferResponseBodyBenchmark() throws Exception {
+        for (String library : Arrays.asList("okhttp-gson", "okhttp4-gson")) {
+            final File output = generate(library, "src/test/resources/3_0_0/petstore.yaml");
+            final String benchmark = FileUtils.readFileToString(new File(output, "src/test/java/io/swagger/client/ApiClientBenchmark.java"));
+            Assert.assertTrue(benchmark.contains("apiClient.setBufferResponseBody(buffered);"), library);
+            Assert.assertTrue(benchmark.contains("measure(\"streaming\", apiClient, false, calls);"), library);
+            Assert.assertTrue(FileUtils.readFileToString(new File(output, "build.gradle")).contains("io.swagger.client.ApiClientBenchmark"), library);
+        }
+    }
+
+    @Test
+    public void testPagination() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+
+        final CodegenProperty item = new CodegenProperty();
+        item.datatypeWithEnum = "Pet";
+        item.complexType = "Pet";
+        final CodegenProperty data = new CodegenProperty();
+        data.baseName = "data";
+        data.getter = "getData";
+        data.items = item;
+        final CodegenProperty nextCursor = new CodegenProperty();
+        nextCursor.baseName = "next_cursor";
+        nextCursor.getter = "getNextCursor";
+        final CodegenModel page = new CodegenModel();
+        page.classname = "PetPage";
+        page.vars = new ArrayList<>(Arrays.asList(data, nextCursor));
+
+        final CodegenParameter cursor = new CodegenParameter();
+        cursor.baseName = "cursor";
+        cursor.paramName = "cursor";
+        cursor.dataType = "String";
+        final CodegenParameter status = new CodegenParameter();
+        status.baseName = "status";
+        status.paramName = "status";
+        status.dataType = "String";
+        final CodegenContent content = new CodegenContent();
+        content.getParameters().add(status.copy());
+        content.getParameters().add(cursor.copy());
+
+        final CodegenOperation operation = new CodegenOperation();
+        operation.operationId = "listPets";
+        operation.returnType = "PetPage";
+        operation.allParams = new ArrayList<>(Arrays.asList(status, cursor));
+        operation.getContents().add(content);
+        final Map<String, Object> pagination = new HashMap<>();
+        pagination.put("param", "cursor");
+        pagination.put("items", "data");
+        pagination.put("next", "next_cursor");
+        operation.getVendorExtensions().put(JavaClientCodegen.X_PAGINATION, pagination);
+
+        Assert.assertTrue(codegen.preparePagination(operation, page));
+        Assert.assertEquals(operation.getVendorExtensions().get("x-pagination-iterator"), Boolean.TRUE);
+        Assert.assertEquals(operation.getVendorExtensions().get("x-pagination-item-type"), "Pet");
+        Assert.assertEquals(operation.getVendorExtensions().get("x-pagination-item-import"), "io.swagger.client.model.Pet");
+        Assert.assertEquals(operation.getVendorExtensions().get("x-pagination-items"), "page.getData()");
+        Assert.assertEquals(operation.getVendorExtensions().get("x-pagination-next"), "io.swagger.client.Paginator.cursor(page.getNextCursor())");
+        Assert.assertEquals(content.getParameters().get(1).getVendorExtensions().get("x-pagination-token"), "token");
+        Assert.assertNull(content.getParameters().get(0).getVendorExtensions().get("x-pagination-token"));
+
+        pagination.put("strategy", "offset");
+        pagination.put("param", "status");
+        status.dataType = "Boolean";
+        Assert.assertFalse(codegen.preparePagination(operation, page));
+
+        pagination.put("strategy", "unknown");
+        pagination.put("param", "cursor");
+        Assert.assertFalse(codegen.preparePagination(operation, page));
+    }
+
+    @Test(description = "verify that the api imports the item type of its pages")
+    public void testPaginationGeneration() throws Exception {
+        for (String library : Arrays.asList("okhttp-gson", JavaClientCodegen.NATIVE, "resttemplate", "jersey2")) {
+            final File output = generate(library, "src/test/resources/3_0_0/paginationTest.yaml");
+            final String orderApi = readFile(output, "api/OrderApi.java");
+            Assert.assertTrue(orderApi.contains("java.util.Iterator<Order> listOrdersIterator("), library);
+            Assert.assertTrue(orderApi.contains("import io.swagger.client.model.Order;"), library);
+            Assert.assertTrue(new File(output, "src/main/java/io/swagger/client/Paginator.java").exists(), library);
+        }
+    }
+
+    @Test
+    public void testPooledConnections() throws Exception {
+        for (JavaClientCodegen codegen : assertLibraryOption(JavaClientCodegen.POOLED_CONNECTIONS, "okhttp-gson", "resttemplate", "jersey2")) {
+            Assert.assertTrue(codegen.pooledConnections, codegen.getLibrary());
+        }
+    }
+
+    @Test(description = "verify that pooled clients can release their connections")
+    public void testPooledConnectionsGeneration() throws Exception {
+        final String jersey = readFile(generate("jersey2", "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.POOLED_CONNECTIONS), "ApiClient.java");
+        Assert.assertTrue(jersey.contains("clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, buildConnectionManager());"));
+        Assert.assertTrue(jersey.contains("  public void close() {\n"
+                + "    httpClient.close();\n"
+                + "    if (connectionEvictor != null) {\n"
+                + "      connectionEvictor.shutdown();\n"
+                + "    }\n"
+                + "    if (connectionManager != null) {\n"
+                + "      connectionManager.shutdown();\n"
+                + "    }\n"
+                + "  }"));
+
+        final String restTemplate = readFile(generate("resttemplate", "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.POOLED_CONNECTIONS), "ApiClient.java");
+        Assert.assertTrue(restTemplate.contains("new HttpComponentsClientHttpRequestFactory(pooledHttpClient)"));
+        Assert.assertTrue(restTemplate.contains("    public void close() throws IOException {\n"
+                + "        if (pooledHttpClient != null) {\n"
+                + "            pooledHttpClient.close();\n"
+                + "        }\n"
+                + "    }"));
+
+        Assert.assertFalse(readFile(generate("resttemplate", "src/test/resources/3_0_0/petstore.yaml"), "ApiClient.java").contains("public void close()"));
+    }
+
+    @Test
+    public void testStreamBinaryBodies() throws Exception {
+        final JavaClientCodegen codegen = assertLibraryOption(JavaClientCodegen.STREAM_BINARY_BODIES, "jersey2", "okhttp-gson", "okhttp4-gson").get(0);
+        Assert.assertTrue(codegen.streamBinaryBodies);
+
+        final CodegenParameter body = new CodegenParameter();
+        body.baseName = "body";
+        body.paramName = "body";
+        body.dataType = "File";
+        body.getVendorExtensions().put(CodegenConstants.IS_BODY_PARAM_EXT_NAME, Boolean.TRUE);
+        final CodegenParameter name = new CodegenParameter();
+        name.baseName = "name";
+        name.paramName = "name";
+        name.dataType = "String";
+        final CodegenContent content = new CodegenContent();
+        content.getParameters().add(name.copy());
+        content.getParameters().add(body.copy());
+
+        final CodegenOperation operation = new CodegenOperation();
+        operation.operationId = "uploadFile";
+        operation.returnType = "File";
+        operation.allParams = new ArrayList<>(Arrays.asList(name, body));
+        operation.bodyParam = body;
+        operation.getContents().add(content);
+
+        codegen.prepareBinaryStreaming(operation);
+        Assert.assertEquals(operation.returnType, "InputStream");
+        Assert.assertEquals(operation.getVendorExtensions().get("x-streaming-response"), Boolean.TRUE);
+        Assert.assertEquals(body.dataType, "InputStream");
+        Assert.assertEquals(name.dataType, "String");
+        Assert.assertEquals(content.getParameters().get(1).dataType, "InputStream");
+        Assert.assertEquals(content.getParameters().get(0).dataType, "String");
+    }
+
+    @Test(description = "verify that okhttp-gson clients only stream binary bodies when asked to")
+    public void testStreamBinaryBodiesGeneration() throws Exception {
+        final File output = generate("okhttp-gson", "src/test/resources/3_0_0/binaryDataTest.json");
+        final String apiClient = readFile(output, "ApiClient.java");
+        Assert.assertFalse(apiClient.contains("byteStream()"));
+        Assert.assertFalse(apiClient.contains("streamRequestBody"));
+        Assert.assertFalse(apiClient.contains("executeToStream"));
+        Assert.assertFalse(apiClient.contains("import okio.Source;"));
+        Assert.assertFalse(readFile(output, "api/DefaultApi.java").contains("ToStream("));
+
+        final File streaming = generate("okhttp-gson", "src/test/resources/3_0_0/binaryDataTest.json", JavaClientCodegen.STREAM_BINARY_BODIES);
+        final String streamingClient = readFile(streaming, "ApiClient.java");
+        // OkHttp 2 throws IOException when opening the body stream
+        Assert.assertTrue(streamingClient.contains("            try {\n"
+                + "                return (T) response.body().byteStream();\n"
+                + "            } catch (IOException e) {\n"
+                + "                throw new ApiException(e);\n"
+                + "            }"));
+        Assert.assertTrue(streamingClient.contains("public long executeToStream(Call call, OutputStream out) throws ApiException {"));
+        Assert.assertTrue(readFile(streaming, "api/DefaultApi.java").contains("public long echotestToStream(Object body, OutputStream out) throws ApiException {"));
+    }
+
+    @Test
+    public void testResponseCache() throws Exception {
+        for (JavaClientCodegen codegen : assertLibraryOption(JavaClientCodegen.RESPONSE_CACHE, "jersey2", "okhttp-gson", "okhttp4-gson", JavaClientCodegen.NATIVE)) {
+            Assert.assertTrue(codegen.responseCache, codegen.getLibrary());
+            Assert.assertTrue(supportingFileTemplates(codegen).contains("ResponseCache.mustache"), codegen.getLibrary());
+        }
+    }
+
+    @Test(description = "verify that the clients supporting the response cache expose it")
+    public void testResponseCacheGeneration() throws Exception {
+        for (String library : Arrays.asList("okhttp-gson", "okhttp4-gson", JavaClientCodegen.NATIVE)) {
+            final File output = generate(library, "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.RESPONSE_CACHE);
+            Assert.assertTrue(readFile(output, "ResponseCache.java").contains("public interface ResponseCache {"), library);
+            Assert.assertTrue(readFile(output, "ApiClient.java").contains("public ApiClient setResponseCache(ResponseCache responseCache) {"), library);
+
+            final File uncached = generate(library, "src/test/resources/3_0_0/petstore.yaml");
+            Assert.assertFalse(new File(uncached, "src/main/java/io/swagger/client/ResponseCache.java").exists(), library);
+            Assert.assertFalse(readFile(uncached, "ApiClient.java").contains("ResponseCache"), library);
+        }
+    }
+
+    @Test(description = "verify that requests differing only by a header parameter do not share a cache entry")
+    public void testResponseCacheKeyCoversHeaders() throws Exception {
+        for (String library : Arrays.asList("okhttp-gson", "okhttp4-gson", JavaClientCodegen.NATIVE)) {
+            Assert.assertTrue(readFile(generate(library, "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.RESPONSE_CACHE), "ApiClient.java")
+                    .contains("ResponseCache.Key.of(request.method(), "), library);
+        }
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new SkipException("no java compiler available");
+        }
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(JavaClientCodegen.RESPONSE_CACHE, Boolean.TRUE.toString());
+        // javax.annotation.Generated is not part of recent JDKs
+        properties.put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, Boolean.TRUE.toString());
+        final File output = generate("okhttp-gson", "src/test/resources/3_0_0/petstore.yaml", properties);
+        final File classes = folder.newFolder();
+        Assert.assertEquals(compiler.run(null, null, null, "-d", classes.getAbsolutePath(),
+                new File(output, "src/main/java/io/swagger/client/ResponseCache.java").getAbsolutePath()), 0);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toURI().toURL()})) {
+            final Method key = classLoader.loadClass("io.swagger.client.ResponseCache$Key")
+                    .getMethod("of", String.class, String.class, Map.class);
+            final String url = "http://petstore.swagger.io/v2/pet/1";
+            final Object first = key.invoke(null, "GET", url, headers("api_key", "first", "Accept", "application/json"));
+            final Object second = key.invoke(null, "GET", url, headers("api_key", "second", "Accept", "application/json"));
+            Assert.assertNotEquals(first, second);
+            Assert.assertNotEquals(first, key.invoke(null, "GET", url, headers("Accept", "application/json")));
+            // header names are case insensitive, the cache validator is not part of the key
+            Assert.assertEquals(key.invoke(null, "GET", url, headers("Accept", "application/json", "API_KEY", "first", "If-None-Match", "\"1\"")), first);
+            Assert.assertFalse(first.toString().contains("first"));
+
+            final Method entry = classLoader.loadClass("io.swagger.client.ResponseCache$Entry")
+                    .getMethod("of", Type.class, Object.class, int.class, Map.class, String.class, String.class, long.class);
+            Assert.assertNotNull(entry.invoke(null, String.class, "pet", 200, headers("Vary", "api_key"), "\"1\"", "max-age=60", 0L));
+            Assert.assertNull(entry.invoke(null, String.class, "pet", 200, headers("Vary", "*"), "\"1\"", "max-age=60", 0L));
+        }
+    }
+
+    private static Map<String, List<String>> headers(String... namesAndValues) {
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            headers.put(namesAndValues[i], Collections.singletonList(namesAndValues[i + 1]));
+        }
+        return headers;
+    }
+
+    @Test
+    public void testApiMetrics() throws Exception {
+        for (JavaClientCodegen codegen : assertLibraryOption(JavaClientCodegen.API_METRICS, "resttemplate", "okhttp-gson", "okhttp4-gson", JavaClientCodegen.NATIVE)) {
+            Assert.assertTrue(codegen.apiMetrics, codegen.getLibrary());
+            final List<String> templates = supportingFileTemplates(codegen);
+            Assert.assertTrue(templates.contains("ApiMetrics.mustache"), codegen.getLibrary());
+            Assert.assertTrue(templates.contains("LatencyHistogram.mustache"), codegen.getLibrary());
+        }
+    }
+
+    @Test(description = "verify that the clients supporting metrics measure every operation")
+    public void testApiMetricsGeneration() throws Exception {
+        for (String library : Arrays.asList("okhttp-gson", "okhttp4-gson", JavaClientCodegen.NATIVE)) {
+            final File output = generate(library, "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.API_METRICS);
+            Assert.assertTrue(readFile(output, "ApiMetrics.java").contains("public interface ApiMetrics {"), library);
+            Assert.assertTrue(readFile(output, "LatencyHistogram.java").contains("public class LatencyHistogram implements ApiMetrics {"), library);
+            Assert.assertTrue(readFile(output, "ApiClient.java").contains("public ApiClient setMetrics(ApiMetrics metrics) {"), library);
+            Assert.assertTrue(readFile(output, "api/PetApi.java").contains("apiClient.startSample(\"addPet\");"), library);
+
+            final File unmeasured = generate(library, "src/test/resources/3_0_0/petstore.yaml");
+            Assert.assertFalse(new File(unmeasured, "src/main/java/io/swagger/client/ApiMetrics.java").exists(), library);
+            Assert.assertFalse(readFile(unmeasured, "api/PetApi.java").contains("startSample"), library);
+        }
+    }
+
+    @Test
+    public void testNativeLibrary() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.NATIVE);
+        codegen.processOpts();
+
+        Assert.assertTrue(codegen.supportedLibraries().containsKey(JavaClientCodegen.NATIVE));
+        Assert.assertEquals(codegen.additionalProperties().get("jackson"), "true");
+        Assert.assertFalse(codegen.additionalProperties().containsKey("gson"));
+        Assert.assertEquals(codegen.dateLibrary, "java8");
+        Assert.assertTrue(codegen.java8Mode);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.JAVA8_MODE), Boolean.TRUE);
+
+        final List<String> templates = supportingFileTemplates(codegen);
+        Assert.assertTrue(templates.contains("JSON.mustache"));
+        Assert.assertTrue(templates.contains("apiException.mustache"));
+        Assert.assertFalse(templates.contains("ApiCallback.mustache"));
+    }
+
+    @Test(description = "verify that native clients use java.util.Base64 whatever the date library")
+    public void testNativeLibraryGeneration() throws Exception {
+        final File output = generate(JavaClientCodegen.NATIVE, "src/test/resources/3_0_0/petstore.yaml",
+                Collections.<String, Object>singletonMap(JavaClientCodegen.DATE_LIBRARY, "threetenbp"));
+        final String httpBasicAuth = readFile(output, "auth/HttpBasicAuth.java");
+        Assert.assertTrue(httpBasicAuth.contains("import java.util.Base64;"));
+        Assert.assertFalse(httpBasicAuth.contains("migbase64"));
+        Assert.assertFalse(FileUtils.readFileToString(new File(output, "pom.xml")).contains("migbase64"));
+    }
+
+    @Test
+    public void testGsonTypeAdapters() throws Exception {
+        final JavaClientCodegen codegen = assertLibraryOption(JavaClientCodegen.GSON_TYPE_ADAPTERS, "jersey2", "okhttp-gson", "okhttp4-gson", "retrofit2").get(0);
+        Assert.assertTrue(codegen.gsonTypeAdapters);
+        Assert.assertTrue(supportingFileTemplates(codegen).contains("GsonTypeAdapterFactory.mustache"));
+
+        final CodegenProperty petType = new CodegenProperty();
+        petType.datatypeWithEnum = "String";
+        final CodegenProperty tags = new CodegenProperty();
+        tags.datatypeWithEnum = "List<String>";
+        final CodegenModel pet = new CodegenModel();
+        pet.name = "Pet";
+        pet.classname = "Pet";
+        pet.vars = new ArrayList<>(Arrays.asList(petType, tags));
+        pet.discriminator = new Discriminator().propertyName("petType");
+
+        final CodegenModel cat = new CodegenModel();
+        cat.name = "Cat";
+        cat.classname = "Cat";
+        cat.vars = new ArrayList<>();
+        cat.parent = "Pet";
+        cat.parentModel = pet;
+        pet.children = new ArrayList<>(Collections.singletonList(cat));
+
+        final CodegenModel list = new CodegenModel();
+        list.name = "PetList";
+        list.classname = "PetList";
+        list.vars = new ArrayList<>();
+        list.getVendorExtensions().put(CodegenConstants.IS_ARRAY_MODEL_EXT_NAME, Boolean.TRUE);
+
+        final List<Map<String, Object>> adapterModels = codegen.prepareGsonTypeAdapters(Arrays.asList(pet, cat, list));
+        Assert.assertEquals(adapterModels.size(), 2);
+        Assert.assertEquals(adapterModels.get(0).get("classname"), "Pet");
+        Assert.assertEquals(adapterModels.get(1).get("classname"), "Cat");
+
+        Assert.assertEquals(cat.getVendorExtensions().get("x-gson-parent-type-adapter"), "Pet");
+        Assert.assertNull(list.getVendorExtensions().get("x-gson-type-adapter"));
+        Assert.assertEquals(petType.getVendorExtensions().get("x-gson-read"), "in.nextString()");
+        Assert.assertNull(tags.getVendorExtensions().get("x-gson-read"));
+
+        @SuppressWarnings("unchecked")
+        final List<Map<String, Object>> subtypes = (List<Map<String, Object>>) pet.getVendorExtensions().get("x-gson-subtypes");
+        Assert.assertEquals(subtypes.size(), 2);
+        Assert.assertEquals(subtypes.get(0).get("value"), "Cat");
+        Assert.assertEquals(subtypes.get(0).get("classname"), "Cat");
+        Assert.assertEquals(subtypes.get(1).get("value"), "Pet");
+    }
+
+    @Test(description = "verify that gson clients register the generated type adapters")
+    public void testGsonTypeAdaptersGeneration() throws Exception {
+        for (String library : Arrays.asList("okhttp-gson", "okhttp4-gson", "retrofit2")) {
+            final File output = generate(library, "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.GSON_TYPE_ADAPTERS);
+            Assert.assertTrue(readFile(output, "GsonTypeAdapterFactory.java").contains("case \"io.swagger.client.model.Pet\":"), library);
+            Assert.assertTrue(readFile(output, "JSON.java").contains(".registerTypeAdapterFactory(new GsonTypeAdapterFactory())"), library);
+            Assert.assertTrue(readFile(output, "model/Pet.java").contains("GsonTypeAdapter"), library);
+        }
+    }
+
+    @Test
+    public void testJacksonSerializers() throws Exception {
+        final JavaClientCodegen codegen = assertLibraryOption(JavaClientCodegen.JACKSON_SERIALIZERS, "okhttp-gson",
+                "resttemplate", "jersey2", "resteasy", "feign", JavaClientCodegen.NATIVE).get(0);
+        Assert.assertTrue(codegen.jacksonSerializers);
+        Assert.assertTrue(supportingFileTemplates(codegen).contains("JacksonModelModule.mustache"));
+
+        final CodegenProperty id = new CodegenProperty();
+        id.datatypeWithEnum = "Long";
+        final CodegenProperty createdAt = new CodegenProperty();
+        createdAt.datatypeWithEnum = "OffsetDateTime";
+        final CodegenModel entity = new CodegenModel();
+        entity.name = "Entity";
+        entity.classname = "Entity";
+        entity.vars = new ArrayList<>(Arrays.asList(id, createdAt));
+
+        final CodegenModel order = new CodegenModel();
+        order.name = "Order";
+        order.classname = "Order";
+        order.vars = new ArrayList<>();
+        order.parent = "Entity";
+        order.parentModel = entity;
+
+        final CodegenModel pet = new CodegenModel();
+        pet.name = "Pet";
+        pet.classname = "Pet";
+        pet.vars = new ArrayList<>();
+        pet.discriminator = new Discriminator().propertyName("petType");
+
+        final CodegenModel cat = new CodegenModel();
+        cat.name = "Cat";
+        cat.classname = "Cat";
+        cat.vars = new ArrayList<>();
+        cat.parent = "Pet";
+        cat.parentModel = pet;
+
+        final List<Map<String, Object>> serializerModels = codegen.prepareJacksonSerializers(Arrays.asList(entity, order, pet, cat));
+        Assert.assertEquals(serializerModels.size(), 2);
+        Assert.assertEquals(serializerModels.get(0).get("classname"), "Entity");
+        Assert.assertEquals(serializerModels.get(1).get("classname"), "Order");
+
+        // polymorphic models keep the annotation driven type handling
+        Assert.assertNull(pet.getVendorExtensions().get("x-jackson-serializers"));
+        Assert.assertNull(cat.getVendorExtensions().get("x-jackson-serializers"));
+
+        Assert.assertEquals(order.getVendorExtensions().get("x-jackson-parent-serializers"), "Entity");
+        Assert.assertEquals(id.getVendorExtensions().get("x-jackson-read"), "p.getLongValue()");
+        Assert.assertEquals(id.getVendorExtensions().get("x-jackson-write"), "writeNumber");
+        Assert.assertNull(createdAt.getVendorExtensions().get("x-jackson-read"));
+    }
+
+    @Test(description = "verify that the generated serializers only use Jackson 2.6 APIs, as pinned by resteasy")
+    public void testJacksonSerializersGeneration() throws Exception {
+        final File output = generate("resteasy", "src/test/resources/3_0_0/petstore.yaml", JavaClientCodegen.JACKSON_SERIALIZERS);
+        final String pet = readFile(output, "model/Pet.java");
+        Assert.assertTrue(pet.contains("public static class JacksonSerializer extends com.fasterxml.jackson.databind.ser.std.StdSerializer<Pet> {"));
+        Assert.assertTrue(pet.contains("provider.getConfig().getSerializationInclusion()"));
+        Assert.assertTrue(pet.contains("throw com.fasterxml.jackson.databind.JsonMappingException.from(p, "));
+        Assert.assertFalse(pet.contains("getDefaultPropertyInclusion"));
+        Assert.assertFalse(pet.contains("handleUnexpectedToken"));
+        Assert.assertTrue(readFile(output, "JacksonModelModule.java").contains("Pet.JacksonSerializer"));
+    }
+
     @Test
     public void testPackageNamesSetInvokerDerivedFromApi() throws Exception {
         final JavaClientCodegen codegen = new JavaClientCodegen();
@@ -343,4 +801,65 @@ public class JavaClientCodegenTest extends AbstractCodegenTest {
 
         Assert.assertTrue(hasComposedModel);
     }
+
+    /**
+     * Asserts that a boolean option is turned off for a library not supporting it and kept for the supported ones.
+     *
+     * @return the generators of the supported libraries, processed with the option on
+     */
+    private static List<JavaClientCodegen> assertLibraryOption(String option, String unsupportedLibrary, String... supportedLibraries) {
+        final JavaClientCodegen unsupported = processOpts(unsupportedLibrary, option);
+        Assert.assertEquals(unsupported.additionalProperties().get(option), Boolean.FALSE, unsupportedLibrary);
+
+        final List<JavaClientCodegen> codegens = new ArrayList<>();
+        for (String library : supportedLibraries) {
+            final JavaClientCodegen codegen = processOpts(library, option);
+            Assert.assertEquals(codegen.additionalProperties().get(option), Boolean.TRUE, library);
+            codegens.add(codegen);
+        }
+        return codegens;
+    }
+
+    private static JavaClientCodegen processOpts(String library, String enabledOption) {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(library);
+        codegen.additionalProperties().put(enabledOption, "true");
+        codegen.processOpts();
+        return codegen;
+    }
+
+    private static List<String> supportingFileTemplates(CodegenConfig codegen) {
+        final List<String> templates = new ArrayList<>();
+        for (SupportingFile supportingFile : codegen.supportingFiles()) {
+            templates.add(supportingFile.templateFile);
+        }
+        return templates;
+    }
+
+    private File generate(String library, String spec, String... enabledOptions) throws IOException {
+        final Map<String, Object> properties = new HashMap<>();
+        for (String option : enabledOptions) {
+            properties.put(option, Boolean.TRUE.toString());
+        }
+        return generate(library, spec, properties);
+    }
+
+    private File generate(String library, String spec, Map<String, Object> properties) throws IOException {
+        final File output = folder.newFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setLang("java")
+            .setLibrary(library)
+            .setInputSpecURL(spec)
+            .setOutputDir(output.getAbsolutePath());
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            configurator.addAdditionalProperty(property.getKey(), property.getValue());
+        }
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+        return output;
+    }
+
+    private static String readFile(File output, String path) throws IOException {
+        return FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/" + path));
+    }
 }
@@ -0,0 +1,118 @@
+package io.swagger.codegen.v3.generators.openapi;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class OpenAPIBundlerTest {
+
+    @Test
+    public void testPruneUnreachableComponents() {
+        final OpenAPI openAPI = new OpenAPI()
+            .paths(new Paths()
+                .addPathItem("/pets", new PathItem().get(operation(new Schema().$ref("#/components/schemas/Pet")))))
+            .components(new Components()
+                .addSchemas("Pet", new ObjectSchema()
+                    .addProperties("owner", new Schema().$ref("#/components/schemas/Owner"))
+                    .discriminator(new Discriminator().propertyName("kind")))
+                .addSchemas("Owner", new ObjectSchema().addProperties("name", new StringSchema()))
+                .addSchemas("Cat", new ComposedSchema().addAllOfItem(new Schema().$ref("#/components/schemas/Pet")))
+                .addSchemas("Unused", new ObjectSchema().addProperties("id", new IntegerSchema())));
+
+        final Components components = new OpenAPIBundler().bundle(openAPI).getComponents();
+        Assert.assertTrue(components.getSchemas().containsKey("Pet"));
+        Assert.assertTrue(components.getSchemas().containsKey("Owner"));
+        // subtype of a schema with discriminator
+        Assert.assertTrue(components.getSchemas().containsKey("Cat"));
+        Assert.assertFalse(components.getSchemas().containsKey("Unused"));
+    }
+
+    @Test
+    public void testDeduplicateInlineSchemas() {
+        final OpenAPI openAPI = new OpenAPI()
+            .paths(new Paths()
+                .addPathItem("/a", new PathItem().get(operation(inlineError())))
+                .addPathItem("/b", new PathItem().get(operation(inlineError())))
+                .addPathItem("/c", new PathItem().get(operation(new ObjectSchema().addProperties("id", new IntegerSchema())))))
+            .components(new Components());
+
+        final OpenAPI bundled = new OpenAPIBundler().bundle(openAPI);
+
+        Assert.assertEquals(bundled.getComponents().getSchemas().size(), 1);
+        Assert.assertTrue(bundled.getComponents().getSchemas().containsKey("Error"));
+        Assert.assertEquals(responseSchema(bundled, "/a").get$ref(), "#/components/schemas/Error");
+        Assert.assertEquals(responseSchema(bundled, "/b").get$ref(), "#/components/schemas/Error");
+        // single occurrences stay inline
+        Assert.assertNull(responseSchema(bundled, "/c").get$ref());
+    }
+
+    @Test
+    public void testStripDocumentation() {
+        final Schema schema = new ObjectSchema()
+            .addProperties("name", new StringSchema().description("the name").example("doggie"));
+        final OpenAPI openAPI = new OpenAPI()
+            .paths(new Paths().addPathItem("/pets", new PathItem().get(operation(schema).description("lists pets"))));
+
+        final OpenAPI bundled = new OpenAPIBundler().stripDocumentation(true).bundle(openAPI);
+
+        final Schema name = (Schema) responseSchema(bundled, "/pets").getProperties().get("name");
+        Assert.assertNull(name.getDescription());
+        Assert.assertNull(name.getExample());
+        Assert.assertNull(bundled.getPaths().get("/pets").getGet().getDescription());
+    }
+
+    @Test
+    public void testSpecLeftUntouched() {
+        final Schema name = new StringSchema().description("the name").example("doggie");
+        final OpenAPI openAPI = new OpenAPI()
+            .paths(new Paths()
+                .addPathItem("/a", new PathItem().get(operation(inlineError())))
+                .addPathItem("/b", new PathItem().get(operation(inlineError())))
+                .addPathItem("/c", new PathItem().get(operation(new ObjectSchema().addProperties("name", name)))))
+            .components(new Components()
+                .addSchemas("Unused", new ObjectSchema().addProperties("id", new IntegerSchema())));
+        final OpenAPI bundled = new OpenAPIBundler().stripDocumentation(true).bundle(openAPI);
+
+        Assert.assertNotSame(bundled, openAPI);
+        Assert.assertFalse(bundled.getComponents().getSchemas().containsKey("Unused"));
+        Assert.assertEquals(responseSchema(bundled, "/a").get$ref(), "#/components/schemas/Error");
+        Assert.assertTrue(openAPI.getComponents().getSchemas().containsKey("Unused"));
+        Assert.assertEquals(openAPI.getComponents().getSchemas().size(), 1);
+        Assert.assertNull(responseSchema(openAPI, "/a").get$ref());
+        Assert.assertEquals(name.getDescription(), "the name");
+        Assert.assertEquals(name.getExample(), "doggie");
+    }
+
+    private static Schema inlineError() {
+        return new ObjectSchema()
+            .title("Error")
+            .addProperties("code", new IntegerSchema())
+            .addProperties("message", new StringSchema().description("error message"));
+    }
+
+    private static Operation operation(Schema schema) {
+        return new Operation().responses(new ApiResponses()
+            .addApiResponse("200", new ApiResponse()
+                .description("ok")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(schema)))));
+    }
+
+    private static Schema responseSchema(OpenAPI openAPI, String path) {
+        return openAPI.getPaths().get(path).getGet().getResponses().get("200")
+            .getContent().get("application/json").getSchema();
+    }
+}
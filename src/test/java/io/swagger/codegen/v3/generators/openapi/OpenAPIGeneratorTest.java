@@ -0,0 +1,86 @@
+package io.swagger.codegen.v3.generators.openapi;
+
+import io.swagger.codegen.v3.generators.AbstractCodegenTest;
+import io.swagger.codegen.v3.generators.GeneratorRunner;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+public class OpenAPIGeneratorTest extends AbstractCodegenTest {
+
+    @Test
+    public void testPrettyOutput() throws Exception {
+        final OpenAPI openAPI = getOpenAPI("3_0_0/petstore.yaml");
+        final File outputFolder = GeneratorRunner.getTmpFolder();
+        final OpenAPIGenerator generator = new OpenAPIGenerator();
+        generator.setOutputDir(outputFolder.getAbsolutePath());
+        generator.processOpts();
+        generator.preprocessOpenAPI(openAPI);
+
+        final File outputFile = new File(outputFolder, OpenAPIGenerator.OPENAPI_FILENAME_DEFAULT_JSON);
+        final String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        Assert.assertEquals(content, Json.pretty(openAPI));
+    }
+
+    @Test
+    public void testCompactGzipOutput() throws Exception {
+        final OpenAPI openAPI = getOpenAPI("3_0_0/petstore.yaml");
+        final File outputFolder = GeneratorRunner.getTmpFolder();
+        final OpenAPIGenerator generator = new OpenAPIGenerator();
+        generator.setOutputDir(outputFolder.getAbsolutePath());
+        generator.additionalProperties().put(OpenAPIGenerator.PRETTY_PRINT, "false");
+        generator.additionalProperties().put(OpenAPIGenerator.GZIP_OUTPUT, "true");
+        generator.processOpts();
+        generator.preprocessOpenAPI(openAPI);
+
+        final File outputFile = new File(outputFolder, OpenAPIGenerator.OPENAPI_FILENAME_DEFAULT_JSON + OpenAPIGenerator.GZIP_EXTENSION);
+        Assert.assertTrue(outputFile.exists());
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(outputFile.toPath()))) {
+            final String content = IOUtils.toString(in, StandardCharsets.UTF_8);
+            Assert.assertEquals(content, Json.mapper().writeValueAsString(openAPI));
+        }
+    }
+
+    @Test
+    public void testYamlOutput() throws Exception {
+        final OpenAPI openAPI = getOpenAPI("3_0_0/petstore.yaml");
+        final File outputFolder = GeneratorRunner.getTmpFolder();
+        final OpenAPIYamlGenerator generator = new OpenAPIYamlGenerator();
+        generator.setOutputDir(outputFolder.getAbsolutePath());
+        generator.processOpts();
+        generator.preprocessOpenAPI(openAPI);
+
+        final File outputFile = new File(outputFolder, OpenAPIYamlGenerator.OPENAPI_FILENAME_DEFAULT_YAML);
+        final String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        Assert.assertEquals(content, Yaml.pretty(openAPI));
+    }
+
+    @Test
+    public void testBundledOutputLeavesSpecUntouched() throws Exception {
+        final OpenAPI openAPI = getOpenAPI("3_0_0/petstore.yaml");
+        final String original = Json.pretty(openAPI);
+        final File outputFolder = GeneratorRunner.getTmpFolder();
+        final OpenAPIGenerator generator = new OpenAPIGenerator();
+        generator.setOutputDir(outputFolder.getAbsolutePath());
+        generator.additionalProperties().put(OpenAPIGenerator.BUNDLE_SPEC, "true");
+        generator.additionalProperties().put(OpenAPIGenerator.STRIP_DOCUMENTATION, "true");
+        generator.processOpts();
+        generator.preprocessOpenAPI(openAPI);
+
+        // the generator goes on with the flattened spec, only the written file is bundled
+        Assert.assertEquals(Json.pretty(openAPI), original);
+        final File outputFile = new File(outputFolder, OpenAPIGenerator.OPENAPI_FILENAME_DEFAULT_JSON);
+        final OpenAPI written = Json.mapper().readValue(outputFile, OpenAPI.class);
+        Assert.assertNotNull(openAPI.getTags().get(0).getDescription());
+        Assert.assertNull(written.getTags().get(0).getDescription());
+    }
+}
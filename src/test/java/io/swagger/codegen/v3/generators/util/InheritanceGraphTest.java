@@ -0,0 +1,66 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.v3.oas.models.media.Discriminator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InheritanceGraphTest {
+
+    @Test
+    public void testOrderAndDiscriminatorBoundary() {
+        final CodegenModel entity = model("Entity", null);
+        final CodegenModel pet = model("Pet", "Entity");
+        pet.discriminator = new Discriminator().propertyName("petType");
+        final CodegenModel cat = model("Cat", "Pet");
+        final CodegenModel lion = model("Lion", "Cat");
+
+        // children listed before their parents
+        final InheritanceGraph graph = new InheritanceGraph(models(lion, cat, pet, entity));
+
+        final List<CodegenModel> order = graph.getTopologicalOrder();
+        Assert.assertEquals(order, Arrays.asList(entity, pet, cat, lion));
+        Assert.assertSame(graph.getParent(lion), cat);
+
+        Assert.assertEquals(graph.getDiscriminatorBoundedAncestors(pet), Collections.singletonList(entity));
+        // the discriminator on Pet ends the chain
+        Assert.assertEquals(graph.getDiscriminatorBoundedAncestors(cat), Collections.singletonList(pet));
+        Assert.assertEquals(graph.getDiscriminatorBoundedAncestors(lion), Arrays.asList(cat, pet));
+    }
+
+    @Test
+    public void testCycleIsBroken() {
+        final CodegenModel a = model("A", "B");
+        final CodegenModel b = model("B", "A");
+
+        final InheritanceGraph graph = new InheritanceGraph(models(a, b));
+
+        Assert.assertEquals(graph.getTopologicalOrder().size(), 2);
+        // the edge closing the cycle is dropped
+        Assert.assertNull(graph.getParent(b));
+        Assert.assertSame(graph.getParent(a), b);
+        Assert.assertEquals(graph.getDiscriminatorBoundedAncestors(a), Collections.singletonList(b));
+    }
+
+    private static CodegenModel model(String name, String parent) {
+        final CodegenModel codegenModel = new CodegenModel();
+        codegenModel.name = name;
+        codegenModel.classname = name;
+        codegenModel.parent = parent;
+        return codegenModel;
+    }
+
+    private static Map<String, CodegenModel> models(CodegenModel... codegenModels) {
+        final Map<String, CodegenModel> allModels = new LinkedHashMap<>();
+        for (CodegenModel codegenModel : codegenModels) {
+            allModels.put(codegenModel.name, codegenModel);
+        }
+        return allModels;
+    }
+}
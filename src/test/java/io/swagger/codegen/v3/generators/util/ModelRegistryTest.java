@@ -0,0 +1,64 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ModelRegistryTest {
+
+    @Test
+    public void testIndexes() {
+        final CodegenModel pet = model("Pet", null);
+        final CodegenModel cat = model("Cat", "Pet");
+        final CodegenModel dog = model("Dog", "Pet");
+        dog.interfaces = Collections.singletonList("Animal");
+        final CodegenModel animal = model("Animal", null);
+
+        final Map<String, Object> processedModels = new LinkedHashMap<>();
+        add(processedModels, "pet", pet);
+        add(processedModels, "cat", cat);
+        add(processedModels, "dog", dog);
+        add(processedModels, "animal", animal);
+
+        final ModelRegistry registry = new ModelRegistry(processedModels, name -> name.substring(0, 1).toUpperCase() + name.substring(1));
+
+        Assert.assertEquals(registry.size(), 4);
+        Assert.assertSame(registry.getBySchemaName("cat"), cat);
+        Assert.assertSame(registry.getByModelName("Cat"), cat);
+        Assert.assertSame(registry.getByClassname("Cat"), cat);
+        Assert.assertSame(registry.getParent(cat), pet);
+        Assert.assertEquals(registry.getChildren("Pet"), Arrays.asList(cat, dog));
+        Assert.assertEquals(registry.getInterfaces(dog), Collections.singletonList(animal));
+        Assert.assertEquals(registry.getImplementations("Animal"), Collections.singletonList(dog));
+        Assert.assertTrue(registry.getChildren("Cat").isEmpty());
+        // processing order is kept
+        Assert.assertEquals(new ArrayList<>(registry.getModelsBySchemaName().keySet()), Arrays.asList("pet", "cat", "dog", "animal"));
+        Assert.assertSame(registry.getModelEntries().get(2).get("model"), dog);
+    }
+
+    private static CodegenModel model(String name, String parent) {
+        final CodegenModel codegenModel = new CodegenModel();
+        codegenModel.name = name;
+        codegenModel.classname = name;
+        codegenModel.parent = parent;
+        return codegenModel;
+    }
+
+    private static void add(Map<String, Object> processedModels, String schemaName, CodegenModel codegenModel) {
+        final Map<String, Object> mo = new HashMap<>();
+        mo.put("model", codegenModel);
+        final List<Map<String, Object>> models = new ArrayList<>();
+        models.add(mo);
+        final Map<String, Object> inner = new HashMap<>();
+        inner.put("models", models);
+        processedModels.put(schemaName, inner);
+    }
+}
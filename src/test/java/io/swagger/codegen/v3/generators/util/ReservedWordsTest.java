@@ -0,0 +1,108 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ReservedWordsTest {
+
+    @Test
+    public void testContainsLowerCase() {
+        final ReservedWords reservedWords = new ReservedWords(Arrays.asList("class", "return", "ApiResponse"));
+
+        Assert.assertTrue(reservedWords.containsLowerCase("class"));
+        Assert.assertTrue(reservedWords.containsLowerCase("Class"));
+        Assert.assertTrue(reservedWords.containsLowerCase("RETURN"));
+        Assert.assertFalse(reservedWords.containsLowerCase("classes"));
+        Assert.assertFalse(reservedWords.containsLowerCase(null));
+        // entries which are not lower case never match a lower-cased lookup, as with contains(word.toLowerCase())
+        Assert.assertFalse(reservedWords.containsLowerCase("ApiResponse"));
+        Assert.assertTrue(reservedWords.contains("ApiResponse"));
+        Assert.assertFalse(reservedWords.contains("Class"));
+    }
+
+    @Test
+    public void testIndexFollowsModifications() {
+        final ReservedWords reservedWords = new ReservedWords();
+        Assert.assertFalse(reservedWords.containsLowerCase("async"));
+
+        reservedWords.addAll(Arrays.asList("var", "async", "await"));
+        Assert.assertTrue(reservedWords.containsLowerCase("Async"));
+
+        reservedWords.remove("async");
+        Assert.assertFalse(reservedWords.containsLowerCase("Async"));
+
+        final Iterator<String> iterator = reservedWords.iterator();
+        while (iterator.hasNext()) {
+            if ("var".equals(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        Assert.assertFalse(reservedWords.containsLowerCase("VAR"));
+        Assert.assertTrue(reservedWords.containsLowerCase("AWAIT"));
+    }
+
+    @Test
+    public void testContainsLowerCaseWithPlainSet() {
+        final HashSet<String> reservedWords = new HashSet<>(Arrays.asList("class", "return"));
+
+        Assert.assertTrue(ReservedWords.containsLowerCase(reservedWords, "Return"));
+        Assert.assertFalse(ReservedWords.containsLowerCase(reservedWords, "returns"));
+        Assert.assertFalse(ReservedWords.containsLowerCase(reservedWords, null));
+    }
+
+    @Test
+    public void testCopiesAreIndependent() {
+        final ReservedWords shared = ReservedWords.lowerCaseOf(Arrays.asList("Class", "RETURN"));
+        Assert.assertTrue(shared.containsLowerCase("class"));
+
+        final ReservedWords copy = new ReservedWords(shared);
+        Assert.assertTrue(copy.containsLowerCase("Return"));
+
+        copy.add("async");
+        copy.remove("class");
+        Assert.assertTrue(copy.containsLowerCase("ASYNC"));
+        Assert.assertFalse(copy.containsLowerCase("Class"));
+        Assert.assertTrue(shared.containsLowerCase("Class"));
+        Assert.assertFalse(shared.containsLowerCase("async"));
+    }
+
+    @Test
+    public void testSharedAcrossThreads() throws Exception {
+        final List<String> words = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            words.add("Word" + i);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                final ReservedWords shared = ReservedWords.lowerCaseOf(words);
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int thread = 0; thread < 4; thread++) {
+                    results.add(executor.submit(() -> {
+                        final ReservedWords copy = new ReservedWords(shared);
+                        for (String word : words) {
+                            if (!copy.containsLowerCase(word) || !shared.containsLowerCase(word)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    Assert.assertTrue(result.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class SchemaDependenciesTest {
+
+    @Test
+    public void testClosureFollowsReferencesAndSubtypes() {
+        final OpenAPI openAPI = createOpenAPI();
+        final SchemaDependencies schemaDependencies = new SchemaDependencies(openAPI);
+
+        final Operation listAnimals = createListAnimals();
+        Assert.assertEquals(schemaDependencies.getOperationRefs(listAnimals), Collections.singleton("Animal"));
+        Assert.assertEquals(schemaDependencies.getClosure(Collections.singleton("Animal")),
+                new HashSet<>(Arrays.asList("Animal", "Owner", "Address", "Dog", "Toy")));
+    }
+
+    @Test
+    public void testSubtypesOfPlainParentsAreNotIncluded() {
+        final SchemaDependencies schemaDependencies = new SchemaDependencies(createOpenAPI());
+
+        Assert.assertEquals(schemaDependencies.getClosure(Collections.singleton("Address")), Collections.singleton("Address"));
+        Assert.assertEquals(schemaDependencies.getClosure(Collections.singleton("Base")), Collections.singleton("Base"));
+        Assert.assertEquals(schemaDependencies.getDependencies("Derived"), Collections.singleton("Base"));
+    }
+
+    @Test
+    public void testOperationRefsFollowCallbacks() {
+        final OpenAPI openAPI = createOpenAPI();
+        openAPI.getComponents().addCallbacks("addressChanged", new Callback()
+                .addPathItem("{$request.body#/url}", new PathItem().put(new Operation().requestBody(new RequestBody()
+                        .content(new Content().addMediaType("application/json", new MediaType()
+                                .schema(new Schema().$ref("#/components/schemas/Address"))))))));
+        final SchemaDependencies schemaDependencies = new SchemaDependencies(openAPI);
+
+        final Operation subscribe = new Operation()
+                .responses(new ApiResponses().addApiResponse("201", new ApiResponse().description("subscribed")))
+                .addCallback("toyAdded", new Callback()
+                        .addPathItem("{$request.body#/url}", new PathItem().post(new Operation().requestBody(new RequestBody()
+                                .content(new Content().addMediaType("application/json", new MediaType()
+                                        .schema(new Schema().$ref("#/components/schemas/Toy"))))))))
+                .addCallback("addressChanged", new Callback().$ref("#/components/callbacks/addressChanged"));
+
+        Assert.assertEquals(schemaDependencies.getOperationRefs(subscribe), new HashSet<>(Arrays.asList("Toy", "Address")));
+    }
+
+    private OpenAPI createOpenAPI() {
+        return new OpenAPI().components(new Components()
+                .addSchemas("Animal", new ObjectSchema()
+                        .discriminator(new Discriminator().propertyName("type"))
+                        .addProperties("type", new StringSchema())
+                        .addProperties("owner", new Schema().$ref("#/components/schemas/Owner")))
+                .addSchemas("Dog", new ComposedSchema()
+                        .addAllOfItem(new Schema().$ref("#/components/schemas/Animal"))
+                        .addAllOfItem(new ObjectSchema().addProperties("toys", new ArraySchema().items(new Schema().$ref("#/components/schemas/Toy")))))
+                .addSchemas("Toy", new ObjectSchema().addProperties("name", new StringSchema()))
+                .addSchemas("Owner", new ObjectSchema().additionalProperties(new Schema().$ref("#/components/schemas/Address")))
+                .addSchemas("Address", new ObjectSchema().addProperties("street", new StringSchema()))
+                .addSchemas("Base", new ObjectSchema().addProperties("id", new StringSchema()))
+                .addSchemas("Derived", new ComposedSchema().addAllOfItem(new Schema().$ref("#/components/schemas/Base")))
+                .addSchemas("Unused", new ObjectSchema().addProperties("id", new StringSchema())));
+    }
+
+    private Operation createListAnimals() {
+        return new Operation().responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                .content(new Content().addMediaType("application/json", new MediaType()
+                        .schema(new ArraySchema().items(new Schema().$ref("#/components/schemas/Animal")))))));
+    }
+}